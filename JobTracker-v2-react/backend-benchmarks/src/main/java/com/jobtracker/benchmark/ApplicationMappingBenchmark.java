@@ -0,0 +1,75 @@
+package com.jobtracker.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.dto.ApplicationDTO;
+import com.jobtracker.dto.ApplicationSummary;
+import com.jobtracker.entity.Application;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 列表响应的构造与序列化 - 每次操作处理一页 (20 条)
+ *
+ * 对比完整实体 + ApplicationDTO.fromEntity 与列表实际使用的 ApplicationSummary 投影 (不含备注) 的分配量。
+ * 只计内存中的转换，含查询在内的对比见 ApplicationQueryBenchmark。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApplicationMappingBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper objectMapper;
+    private List<Application> entities;
+    private Page<ApplicationDTO> dtoPage;
+    private Page<ApplicationSummary> summaryPage;
+
+    @Setup
+    public void setup() {
+        objectMapper = Fixtures.objectMapper();
+        entities = Fixtures.applications(PAGE_SIZE);
+        PageRequest pageable = PageRequest.of(0, PAGE_SIZE);
+        dtoPage = new PageImpl<>(entities.stream().map(ApplicationDTO::fromEntity).toList(), pageable, 137);
+        summaryPage = new PageImpl<>(entities.stream().map(Fixtures::summary).toList(), pageable, 137);
+    }
+
+    @Benchmark
+    public void fromEntity(Blackhole bh) {
+        for (Application app : entities) {
+            bh.consume(ApplicationDTO.fromEntity(app));
+        }
+    }
+
+    /**
+     * 构造表达式直接生成摘要 (列表查询的现行方式)
+     */
+    @Benchmark
+    public void constructSummary(Blackhole bh) {
+        for (Application app : entities) {
+            bh.consume(Fixtures.summary(app));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeDtoPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtoPage);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaryPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaryPage);
+    }
+}
@@ -0,0 +1,110 @@
+package com.jobtracker.benchmark;
+
+import com.jobtracker.dto.ApplicationDTO;
+import com.jobtracker.dto.ApplicationSummary;
+import com.jobtracker.entity.Application;
+import com.jobtracker.entity.User;
+import com.jobtracker.repository.ApplicationRepository;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 列表页查询 - 在内存 H2 上通过 Hibernate 执行，每次操作读取一页 (20 条)
+ *
+ * 表结构由后端的 Flyway 迁移脚本建立，命名策略与 Spring Boot 相同。
+ * 对比按实体加载再转换 DTO (含备注、进入持久化上下文) 与列表实际使用的构造表达式投影。
+ * 结果包含 JDBC 与 H2 本身的开销，只用于两种方式的相对比较，不代表 MySQL 上的绝对耗时。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApplicationQueryBenchmark {
+    private static final String URL = "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1";
+    private static final int PAGE_SIZE = 20;
+    private static final int ROWS = 500;
+
+    private static final String WHERE = "FROM Application a WHERE a.user.id = :userId " +
+            ApplicationRepository.BY_USER_CREATED;
+
+    private SessionFactory sessionFactory;
+    private Long userId;
+
+    @Setup
+    public void setup() {
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Application.class)
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .setProperty(AvailableSettings.URL, URL)
+                .setProperty(AvailableSettings.USER, "sa")
+                .setProperty(AvailableSettings.PASS, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "none")
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            User user = User.builder().username("benchmark").email("benchmark@example.com").password("x").build();
+            session.persist(user);
+            for (Application app : Fixtures.applications(ROWS)) {
+                app.setId(null);
+                app.setVersion(null);
+                app.setUser(user);
+                session.persist(app);
+            }
+            userId = user.getId();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    /**
+     * 按实体加载再转换: 实体 (含备注) 进入持久化上下文，另加 DTO 的分配
+     */
+    @Benchmark
+    public void loadEntityAndConvert(Blackhole bh) {
+        try (EntityManager em = sessionFactory.createEntityManager()) {
+            List<Application> apps = em.createQuery("SELECT a " + WHERE, Application.class)
+                    .setParameter("userId", userId)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+            for (Application app : apps) {
+                bh.consume(ApplicationDTO.fromEntity(app));
+            }
+        }
+    }
+
+    /**
+     * 构造表达式直接生成摘要 (列表查询的现行方式)
+     */
+    @Benchmark
+    public List<ApplicationSummary> querySummaries() {
+        try (EntityManager em = sessionFactory.createEntityManager()) {
+            return em.createQuery(ApplicationSummary.SELECT + WHERE, ApplicationSummary.class)
+                    .setParameter("userId", userId)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.jobtracker.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口 - 参数与 JMH 命令行相同，默认附加 GC profiler 输出每次操作的分配字节数 (gc.alloc.rate.norm)
+ *
+ * java -jar target/benchmarks.jar [JMH 参数，例如 Jwt -f 1]
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,61 @@
+package com.jobtracker.benchmark;
+
+import com.jobtracker.entity.Application;
+import com.jobtracker.service.ExportService;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Excel 导出的逐行写入 - 与 ExportService 相同的流式工作簿和行窗口，结果以每行计
+ *
+ * 每次操作写出完整的工作簿 (含压缩)，即一次小规模导出的全部成本。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportRowBenchmark {
+    private static final int ROWS = 1000;
+    private static final int ROW_WINDOW = 100;
+
+    private List<Application> applications;
+
+    @Setup
+    public void setup() {
+        applications = Fixtures.applications(ROWS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void writeRows() throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            Sheet sheet = workbook.createSheet("投递记录");
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < ExportService.HEADERS.length; i++) {
+                header.createCell(i).setCellValue(ExportService.HEADERS[i]);
+            }
+            int rowNum = 1;
+            for (Application app : applications) {
+                ExportService.writeRow(sheet.createRow(rowNum++), app);
+            }
+            workbook.write(OutputStream.nullOutputStream());
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.jobtracker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.jobtracker.dto.ApplicationSummary;
+import com.jobtracker.entity.Application;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基准测试数据 - 字段长度和取值分布接近真实记录
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+final class Fixtures {
+    private static final String[] STATUSES = {"已投递", "笔试", "一面", "二面", "HR面", "Offer", "已拒绝"};
+    private static final String[] CHANNELS = {"官网投递", "招聘网站", "内推", "校园招聘"};
+
+    private Fixtures() {}
+
+    static Application application(long id) {
+        LocalDateTime created = LocalDateTime.of(2025, 3, 1, 9, 30).plusHours(id);
+        return Application.builder()
+                .id(id)
+                .companyName("示例科技有限公司" + id)
+                .positionName("Java 后端开发工程师")
+                .applyDate(created.toLocalDate())
+                .status(STATUSES[(int) (id % STATUSES.length)])
+                .notes("一面问了 JVM 内存模型、MySQL 索引和项目中的缓存设计，二面需要准备系统设计。")
+                .salaryMin(15)
+                .salaryMax(25)
+                .workLocation("深圳")
+                .applyChannel(CHANNELS[(int) (id % CHANNELS.length)])
+                .referrer(id % 3 == 0 ? "张三" : null)
+                .interviewTime(id % 2 == 0 ? created.plusDays(7) : null)
+                .companyWebsite("https://careers.example.com/jobs/" + id)
+                .hrContact("李女士")
+                .hrPhone("13800000000")
+                .priority(Application.Priority.MEDIUM)
+                .isStarred(id % 5 == 0)
+                .version(1L)
+                .createdAt(created)
+                .updatedAt(created.plusDays(1))
+                .build();
+    }
+
+    static List<Application> applications(int count) {
+        List<Application> apps = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            apps.add(application(i));
+        }
+        return apps;
+    }
+
+    /**
+     * 与列表查询的构造表达式相同的字段
+     */
+    static ApplicationSummary summary(Application a) {
+        return new ApplicationSummary(a.getId(), a.getCompanyName(), a.getPositionName(), a.getApplyDate(),
+                a.getStatus(), a.getSalaryMin(), a.getSalaryMax(), a.getWorkLocation(), a.getApplyChannel(),
+                a.getReferrer(), a.getInterviewTime(), a.getCompanyWebsite(), a.getHrContact(), a.getHrPhone(),
+                a.getPriority(), a.getIsStarred(), a.getVersion(), a.getCreatedAt(), a.getUpdatedAt());
+    }
+
+    /**
+     * 与 Spring Boot 默认配置一致的 ObjectMapper (日期输出为 ISO 字符串)
+     */
+    static ObjectMapper objectMapper() {
+        return JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    /**
+     * 为 @Value 注入的私有字段赋值
+     */
+    static void set(Object target, String field, Object value) throws ReflectiveOperationException {
+        Field f = target.getClass().getDeclaredField(field);
+        f.setAccessible(true);
+        f.set(target, value);
+    }
+
+    /**
+     * 调用 @PostConstruct 初始化方法
+     */
+    static void init(Object target, String method) throws ReflectiveOperationException {
+        Method m = target.getClass().getDeclaredMethod(method);
+        m.setAccessible(true);
+        m.invoke(target);
+    }
+}
@@ -0,0 +1,97 @@
+package com.jobtracker.benchmark;
+
+import com.jobtracker.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 签发与校验 - parse* 走验签缓存 (每个请求的实际路径)，verifyUncached 为缓存未命中时的 HMAC 验签成本，
+ * legacyFilterPath 复现改造前过滤器的路径 (每次重建密钥和解析器，一个请求解析三次) 作为对照
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+    private static final String SECRET = "benchmark-secret-key-with-at-least-256-bits-for-hs256";
+
+    private JwtUtil jwtUtil;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        jwtUtil = new JwtUtil();
+        Fixtures.set(jwtUtil, "secret", SECRET);
+        Fixtures.set(jwtUtil, "expiration", 86_400_000L);
+        Fixtures.set(jwtUtil, "cacheSize", 10_000);
+        Fixtures.init(jwtUtil, "init");
+        parser = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8))).build();
+        token = jwtUtil.generateToken("benchmark-user", 42L);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("benchmark-user", 42L);
+    }
+
+    /**
+     * 过滤器现行路径: 一次查找同时得到用户名和过期时间
+     */
+    @Benchmark
+    public JwtUtil.TokenClaims parseToken() {
+        return jwtUtil.parseToken(token);
+    }
+
+    /**
+     * 改造前过滤器的路径: extractUsername 之后 validateToken 再解析两次 (用户名、过期时间)，
+     * 每次解析都经 getSigningKey() 重建 SecretKey 和 JwtParser
+     */
+    @Benchmark
+    public boolean legacyFilterPath() {
+        String username = legacyParse(token).getSubject();
+        return username != null
+                && legacyParse(token).getSubject().equals(username)
+                && !legacyParse(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token, "benchmark-user");
+    }
+
+    @Benchmark
+    public Object verifyUncached() {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(legacySigningKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private static SecretKey legacySigningKey() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,46 @@
+package com.jobtracker.config;
+
+import com.jobtracker.metrics.EntityLoadIntegrator;
+import com.jobtracker.metrics.QueryCountFilter;
+import com.jobtracker.metrics.QueryCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 监控配置 - 注册每请求的 Hibernate 语句数和实体加载数统计
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@Configuration
+public class MetricsConfig {
+    private static final String INTEGRATOR_PROVIDER = "hibernate.integrator_provider";
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+            properties.put(INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(new EntityLoadIntegrator()));
+        };
+    }
+
+    /**
+     * 排在 Spring Security 过滤链之前，使 JWT 认证阶段的查询计入所属请求
+     */
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<QueryCountFilter> registration =
+                new FilterRegistrationBean<>(new QueryCountFilter(meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,27 @@
+package com.jobtracker.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 虚拟线程开关检查 - spring.threads.virtual.enabled 只在 JDK 21+ 生效，
+ * 更低版本上 Spring Boot 会静默忽略并继续使用平台线程池，此时直接启动失败，避免误把平台线程的结果当作虚拟线程
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+    private static final int MIN_JAVA_VERSION = 21;
+
+    @PostConstruct
+    void checkJavaVersion() {
+        int version = Runtime.version().feature();
+        if (version < MIN_JAVA_VERSION) {
+            throw new IllegalStateException("spring.threads.virtual.enabled requires JDK " + MIN_JAVA_VERSION
+                    + "+, but running on JDK " + version);
+        }
+    }
+}
@@ -1,17 +1,29 @@
 package com.jobtracker.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.jobtracker.dto.ApplicationDTO;
-import com.jobtracker.entity.User;
-import com.jobtracker.repository.UserRepository;
+import com.jobtracker.dto.BatchRequest;
+import com.jobtracker.entity.ApplicationRollup;
+import com.jobtracker.security.AuthUser;
 import com.jobtracker.service.ApplicationService;
+import com.jobtracker.service.TrendService;
+import com.jobtracker.service.UserRevisions;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.*;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * 投递记录控制器 - 处理CRUD操作和统计
@@ -23,55 +35,233 @@ import java.util.Map;
 @RequestMapping("/api/applications")
 @RequiredArgsConstructor
 public class ApplicationController {
+    // 浏览器可缓存响应，但每次使用前须以 ETag 向服务端验证
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    // 列表单页条数上限 (偏移分页和游标分页相同)
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ApplicationService applicationService;
-    private final UserRepository userRepository;
+    private final TrendService trendService;
+    private final UserRevisions userRevisions;
 
-    private Long getUserId(UserDetails userDetails) {
-        return userRepository.findByUsername(userDetails.getUsername())
-                .map(User::getId).orElseThrow();
-    }
+    @Value("${batch.max-items:500}")
+    private int batchMaxItems;
 
     @GetMapping
     public ResponseEntity<?> getApplications(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal AuthUser authUser,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String status,
-            @RequestParam(required = false) String keyword) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return ResponseEntity.ok(applicationService.getApplications(getUserId(userDetails), status, keyword, pageable));
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withCount,
+            WebRequest request) {
+        Long userId = authUser.getId();
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 传入 cursor 参数 (首页可为空串) 时使用游标分页
+        if (cursor != null) {
+            try {
+                return conditional(request, userId, () -> applicationService.getApplicationsByCursor(
+                        userId, status, keyword, cursor, pageSize, withCount));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+            }
+        }
+        // 顺序由查询语句给出 (与游标分页相同的 (createdAt, id) 倒序)，这里不附加排序
+        Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize);
+        return conditional(request, userId, () -> applicationService.getApplications(userId, status, keyword, pageable));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getApplication(@PathVariable Long id, @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(applicationService.getApplicationById(id, getUserId(userDetails)));
+    public ResponseEntity<?> getApplication(@PathVariable Long id, @AuthenticationPrincipal AuthUser authUser,
+                                            WebRequest request) {
+        Long userId = authUser.getId();
+        return conditional(request, userId, () -> applicationService.getApplicationById(id, userId));
     }
 
     @PostMapping
     public ResponseEntity<?> createApplication(@Valid @RequestBody ApplicationDTO dto, 
-                                               @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(applicationService.createApplication(dto, getUserId(userDetails)));
+                                               @AuthenticationPrincipal AuthUser authUser) {
+        return ResponseEntity.ok(applicationService.createApplication(dto, authUser.getId()));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<?> updateApplication(@PathVariable Long id, @Valid @RequestBody ApplicationDTO dto,
-                                               @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(applicationService.updateApplication(id, dto, getUserId(userDetails)));
+                                               @AuthenticationPrincipal AuthUser authUser) {
+        try {
+            return ResponseEntity.ok(applicationService.updateApplication(id, dto, authUser.getId()));
+        } catch (OptimisticLockingFailureException e) {
+            return conflict();
+        }
+    }
+
+    /**
+     * 部分更新: 请求体只需包含要修改的字段，可带 version 做并发检查
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<?> patchApplication(@PathVariable Long id, @RequestBody JsonNode patch,
+                                              @AuthenticationPrincipal AuthUser authUser) {
+        if (!patch.isObject()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Patch must be a JSON object"));
+        }
+        try {
+            return ResponseEntity.ok(applicationService.patchApplication(id, patch, authUser.getId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (OptimisticLockingFailureException e) {
+            return conflict();
+        }
+    }
+
+    @PutMapping("/{id}/status")
+    public ResponseEntity<?> updateStatus(@PathVariable Long id, @RequestBody Map<String, String> body,
+                                          @AuthenticationPrincipal AuthUser authUser) {
+        String status = body.get("status");
+        if (status == null || status.isBlank() || status.length() > 30) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid status"));
+        }
+        try {
+            return ResponseEntity.ok(applicationService.updateStatus(id, status, authUser.getId()));
+        } catch (OptimisticLockingFailureException e) {
+            return conflict();
+        }
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteApplication(@PathVariable Long id, @AuthenticationPrincipal UserDetails userDetails) {
-        applicationService.deleteApplication(id, getUserId(userDetails));
+    public ResponseEntity<?> deleteApplication(@PathVariable Long id, @AuthenticationPrincipal AuthUser authUser) {
+        applicationService.deleteApplication(id, authUser.getId());
         return ResponseEntity.ok(Map.of("message", "Deleted successfully"));
     }
 
+    /**
+     * 批量接口: 整批在一个事务内执行，响应按请求顺序给出每条的结果
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> batchCreate(@RequestBody List<ApplicationDTO> dtos,
+                                         @AuthenticationPrincipal AuthUser authUser) {
+        ResponseEntity<?> error = checkBatchSize(dtos);
+        if (error != null) {
+            return error;
+        }
+        return ResponseEntity.ok(Map.of("results", applicationService.batchCreate(dtos, authUser.getId())));
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<?> batchUpdate(@RequestBody List<ApplicationDTO> dtos,
+                                         @AuthenticationPrincipal AuthUser authUser) {
+        ResponseEntity<?> error = checkBatchSize(dtos);
+        if (error != null) {
+            return error;
+        }
+        try {
+            return ResponseEntity.ok(Map.of("results", applicationService.batchUpdate(dtos, authUser.getId())));
+        } catch (OptimisticLockingFailureException e) {
+            return conflict();
+        }
+    }
+
+    @PostMapping("/batch/delete")
+    public ResponseEntity<?> batchDelete(@Valid @RequestBody BatchRequest request,
+                                         @AuthenticationPrincipal AuthUser authUser) {
+        ResponseEntity<?> error = checkBatchSize(request.getIds());
+        if (error != null) {
+            return error;
+        }
+        try {
+            return ResponseEntity.ok(Map.of("results", applicationService.batchDelete(request.getIds(), authUser.getId())));
+        } catch (OptimisticLockingFailureException e) {
+            return conflict();
+        }
+    }
+
+    @PostMapping("/batch/status")
+    public ResponseEntity<?> batchUpdateStatus(@Valid @RequestBody BatchRequest request,
+                                               @AuthenticationPrincipal AuthUser authUser) {
+        ResponseEntity<?> error = checkBatchSize(request.getIds());
+        if (error != null) {
+            return error;
+        }
+        String status = request.getStatus();
+        if (status == null || status.isBlank() || status.length() > 30) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid status"));
+        }
+        try {
+            return ResponseEntity.ok(Map.of("results",
+                    applicationService.batchUpdateStatus(request.getIds(), status, authUser.getId())));
+        } catch (OptimisticLockingFailureException e) {
+            return conflict();
+        }
+    }
+
+    /**
+     * 条件请求: 先取 ETag 再查询 (期间发生写入时返回的数据只会比 ETag 新)，
+     * If-None-Match 命中时直接返回 304，不查询也不序列化数据
+     */
+    private ResponseEntity<?> conditional(WebRequest request, Long userId, Supplier<?> body) {
+        String etag = userRevisions.etag(userId);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body.get());
+    }
+
+    private static ResponseEntity<?> conflict() {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "Application was modified concurrently, please reload"));
+    }
+
+    private ResponseEntity<?> checkBatchSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Batch is empty"));
+        }
+        if (items.size() > batchMaxItems) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Batch exceeds " + batchMaxItems + " items"));
+        }
+        return null;
+    }
+
     @PostMapping("/{id}/toggle-star")
-    public ResponseEntity<?> toggleStar(@PathVariable Long id, @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(applicationService.toggleStar(id, getUserId(userDetails)));
+    public ResponseEntity<?> toggleStar(@PathVariable Long id, @AuthenticationPrincipal AuthUser authUser) {
+        try {
+            return ResponseEntity.ok(applicationService.toggleStar(id, authUser.getId()));
+        } catch (OptimisticLockingFailureException e) {
+            return conflict();
+        }
     }
 
     @GetMapping("/stats")
-    public ResponseEntity<?> getStatistics(@AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(applicationService.getStatistics(getUserId(userDetails)));
+    public ResponseEntity<?> getStatistics(@AuthenticationPrincipal AuthUser authUser, WebRequest request) {
+        Long userId = authUser.getId();
+        return conditional(request, userId, () -> applicationService.getStatistics(userId));
+    }
+
+    /**
+     * 投递趋势: granularity 为 day 或 month，默认最近 12 个月
+     */
+    @GetMapping("/trends")
+    public ResponseEntity<?> getTrends(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "month") String granularity) {
+        ApplicationRollup.Granularity g;
+        try {
+            g = ApplicationRollup.Granularity.valueOf(granularity.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid granularity: " + granularity));
+        }
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusMonths(11).withDayOfMonth(1);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "from must not be after to"));
+        }
+        return ResponseEntity.ok(trendService.getTrends(authUser.getId(), start, end, g));
+    }
+
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<?> rebuildStatistics(@AuthenticationPrincipal AuthUser authUser) {
+        applicationService.rebuildStatistics(authUser.getId());
+        return ResponseEntity.ok(applicationService.getStatistics(authUser.getId()));
     }
 }
@@ -3,15 +3,23 @@ package com.jobtracker.controller;
 import com.jobtracker.dto.*;
 import com.jobtracker.entity.User;
 import com.jobtracker.repository.UserRepository;
+import com.jobtracker.security.AuthUser;
 import com.jobtracker.security.JwtUtil;
+import com.jobtracker.security.PasswordHashExecutor;
+import com.jobtracker.service.LastLoginRecorder;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.*;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
-import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 /**
  * 认证控制器 - 处理用户登录和注册
@@ -27,54 +35,76 @@ public class AuthController {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final LastLoginRecorder lastLoginRecorder;
 
+    /**
+     * 登录 - 密码校验在哈希线程池中执行，最近登录时间异步合并写库
+     */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody AuthRequest request) {
-        try {
-            authManager.authenticate(new UsernamePasswordAuthenticationToken(
-                    request.getUsername(), request.getPassword()));
-            
-            User user = userRepository.findByUsername(request.getUsername()).orElseThrow();
-            user.setLastLogin(LocalDateTime.now());
-            userRepository.save(user);
-            
-            String token = jwtUtil.generateToken(request.getUsername());
-            return ResponseEntity.ok(Map.of(
-                "token", token,
-                "user", Map.of(
-                    "id", user.getId(),
-                    "username", user.getUsername(),
-                    "email", user.getEmail(),
-                    "realName", user.getRealName() != null ? user.getRealName() : ""
-                )
-            ));
-        } catch (BadCredentialsException e) {
-            return ResponseEntity.status(401).body(Map.of("error", "Invalid credentials"));
-        }
+    public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody AuthRequest request) {
+        return hashing(() -> {
+            try {
+                Authentication authentication = authManager.authenticate(new UsernamePasswordAuthenticationToken(
+                        request.getUsername(), request.getPassword()));
+                AuthUser user = (AuthUser) authentication.getPrincipal();
+                lastLoginRecorder.record(user.getId());
+
+                String token = jwtUtil.generateToken(user.getUsername(), user.getId());
+                return ResponseEntity.ok(Map.of(
+                    "token", token,
+                    "user", Map.of(
+                        "id", user.getId(),
+                        "username", user.getUsername(),
+                        "email", user.getEmail(),
+                        "realName", user.getRealName() != null ? user.getRealName() : ""
+                    )
+                ));
+            } catch (BadCredentialsException e) {
+                return ResponseEntity.status(401).body(Map.of("error", "Invalid credentials"));
+            }
+        });
     }
 
     @PostMapping("/register")
-    public ResponseEntity<?> register(@Valid @RequestBody RegisterRequest request) {
+    public CompletableFuture<ResponseEntity<?>> register(@Valid @RequestBody RegisterRequest request) {
         if (userRepository.existsByUsername(request.getUsername())) {
-            return ResponseEntity.badRequest().body(Map.of("error", "Username already exists"));
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body(Map.of("error", "Username already exists")));
         }
         if (userRepository.existsByEmail(request.getEmail())) {
-            return ResponseEntity.badRequest().body(Map.of("error", "Email already registered"));
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body(Map.of("error", "Email already registered")));
         }
 
-        User user = User.builder()
-                .username(request.getUsername())
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .realName(request.getRealName())
-                .phone(request.getPhone())
-                .targetPosition(request.getTargetPosition())
-                .graduationYear(request.getGraduationYear())
-                .major(request.getMajor())
-                .school(request.getSchool())
-                .build();
-        
-        userRepository.save(user);
-        return ResponseEntity.ok(Map.of("message", "Registration successful"));
+        return hashing(() -> {
+            User user = User.builder()
+                    .username(request.getUsername())
+                    .email(request.getEmail())
+                    .password(passwordEncoder.encode(request.getPassword()))
+                    .realName(request.getRealName())
+                    .phone(request.getPhone())
+                    .targetPosition(request.getTargetPosition())
+                    .graduationYear(request.getGraduationYear())
+                    .major(request.getMajor())
+                    .school(request.getSchool())
+                    .build();
+
+            userRepository.save(user);
+            return ResponseEntity.ok(Map.of("message", "Registration successful"));
+        });
+    }
+
+    /**
+     * 在哈希线程池中执行，线程池已满时返回 503
+     */
+    private CompletableFuture<ResponseEntity<?>> hashing(Supplier<ResponseEntity<?>> task) {
+        try {
+            return passwordHashExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("error", "Too many login attempts, please retry")));
+        }
     }
 }
@@ -1,22 +1,24 @@
 package com.jobtracker.controller;
 
-import com.jobtracker.entity.Application;
-import com.jobtracker.entity.User;
-import com.jobtracker.repository.ApplicationRepository;
-import com.jobtracker.repository.UserRepository;
+import com.jobtracker.security.AuthUser;
+import com.jobtracker.service.ExportService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayOutputStream;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * 数据导出控制器 - @author dts
@@ -25,68 +27,135 @@ import java.util.List;
 @RequestMapping("/api/export")
 @RequiredArgsConstructor
 public class ExportController {
-    private final ApplicationRepository applicationRepository;
-    private final UserRepository userRepository;
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
 
-    private Long getUserId(UserDetails userDetails) {
-        return userRepository.findByUsername(userDetails.getUsername()).map(User::getId).orElseThrow();
-    }
+    private final ExportService exportService;
+    private final MeterRegistry meterRegistry;
 
     @GetMapping("/excel")
-    public ResponseEntity<byte[]> exportExcel(@AuthenticationPrincipal UserDetails userDetails) {
-        List<Application> apps = applicationRepository.findByUserIdOrderByCreatedAtDesc(getUserId(userDetails));
-
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("投递记录");
-
-            // 表头样式
-            CellStyle headerStyle = workbook.createCellStyle();
-            Font headerFont = workbook.createFont();
-            headerFont.setBold(true);
-            headerStyle.setFont(headerFont);
-            headerStyle.setFillForegroundColor(IndexedColors.LIGHT_BLUE.getIndex());
-            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-            // 表头
-            String[] headers = {"公司名称", "职位名称", "投递日期", "状态", "薪资范围", "工作地点", "投递渠道", "内推人", "面试时间", "备注"};
-            Row headerRow = sheet.createRow(0);
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-                sheet.setColumnWidth(i, 4000);
-            }
+    public ResponseEntity<StreamingResponseBody> exportExcel(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String keyword) {
+        Long userId = authUser.getId();
+
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        httpHeaders.setContentDispositionFormData("attachment", "job_applications.xlsx");
+
+        return ResponseEntity.ok().headers(httpHeaders)
+                .body(metered("excel", out -> exportService.writeExcel(userId, status, keyword, out)));
+    }
+
+    @GetMapping("/csv")
+    public ResponseEntity<StreamingResponseBody> exportCsv(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String keyword,
+            HttpServletRequest request) {
+        Long userId = authUser.getId();
+        return stream(request, TEXT_CSV, "job_applications.csv",
+                metered("csv", out -> exportService.writeCsv(userId, status, keyword, out)));
+    }
+
+    @GetMapping("/ndjson")
+    public ResponseEntity<StreamingResponseBody> exportNdjson(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String keyword,
+            HttpServletRequest request) {
+        Long userId = authUser.getId();
+        return stream(request, MediaType.APPLICATION_NDJSON, "job_applications.ndjson",
+                metered("ndjson", out -> exportService.writeNdjson(userId, status, keyword, out)));
+    }
+
+    /**
+     * 文本格式导出: 客户端支持时以 gzip 压缩输出
+     */
+    private ResponseEntity<StreamingResponseBody> stream(HttpServletRequest request, MediaType contentType,
+                                                        String fileName, StreamingResponseBody body) {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.setContentType(contentType);
+        httpHeaders.setContentDispositionFormData("attachment", fileName);
+        httpHeaders.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!gzip) {
+            return ResponseEntity.ok().headers(httpHeaders).body(body);
+        }
+
+        httpHeaders.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return ResponseEntity.ok().headers(httpHeaders).body(out -> writeGzip(body, out));
+    }
 
-            // 数据
-            DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-            DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-            
-            int rowNum = 1;
-            for (Application app : apps) {
-                Row row = sheet.createRow(rowNum++);
-                row.createCell(0).setCellValue(app.getCompanyName());
-                row.createCell(1).setCellValue(app.getPositionName());
-                row.createCell(2).setCellValue(app.getApplyDate() != null ? app.getApplyDate().format(dateFormatter) : "");
-                row.createCell(3).setCellValue(app.getStatus());
-                row.createCell(4).setCellValue(app.getSalaryMin() != null && app.getSalaryMax() != null ? 
-                        app.getSalaryMin() + "-" + app.getSalaryMax() + "K" : "");
-                row.createCell(5).setCellValue(app.getWorkLocation() != null ? app.getWorkLocation() : "");
-                row.createCell(6).setCellValue(app.getApplyChannel() != null ? app.getApplyChannel() : "");
-                row.createCell(7).setCellValue(app.getReferrer() != null ? app.getReferrer() : "");
-                row.createCell(8).setCellValue(app.getInterviewTime() != null ? app.getInterviewTime().format(dateTimeFormatter) : "");
-                row.createCell(9).setCellValue(app.getNotes() != null ? app.getNotes() : "");
+    /**
+     * 记录导出耗时 (export.duration) 和输出字节数 (export.size，压缩前)
+     */
+    private StreamingResponseBody metered(String format, StreamingResponseBody body) {
+        return out -> {
+            long[] bytes = {0};
+            OutputStream counting = new FilterOutputStream(out) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    bytes[0]++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    bytes[0] += len;
+                }
+            };
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "error";
+            try {
+                body.writeTo(counting);
+                outcome = "success";
+            } finally {
+                sample.stop(meterRegistry.timer("export.duration", "format", format, "outcome", outcome));
+                DistributionSummary.builder("export.size")
+                        .baseUnit("bytes")
+                        .tags("format", format)
+                        .register(meterRegistry)
+                        .record(bytes[0]);
             }
+        };
+    }
 
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            workbook.write(out);
+    private static void writeGzip(StreamingResponseBody body, OutputStream out) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out, 8192);
+        body.writeTo(gzip);
+        gzip.finish();
+        gzip.flush();
+    }
 
-            HttpHeaders httpHeaders = new HttpHeaders();
-            httpHeaders.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-            httpHeaders.setContentDispositionFormData("attachment", "job_applications.xlsx");
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (!tokens[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            // gzip;q=0 表示明确拒绝
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=") && isZero(param.substring(2))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
 
-            return ResponseEntity.ok().headers(httpHeaders).body(out.toByteArray());
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException e) {
+            return false;
         }
     }
 }
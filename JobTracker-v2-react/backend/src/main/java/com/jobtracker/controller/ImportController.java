@@ -0,0 +1,68 @@
+package com.jobtracker.controller;
+
+import com.jobtracker.security.AuthUser;
+import com.jobtracker.service.ImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * 数据导入控制器 - 接受与导出相同列布局的 Excel / CSV 文件，返回逐行导入结果
+ * 
+ * @author dts
+ * @version 2.0.0
+ */
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+public class ImportController {
+    private final ImportService importService;
+
+    @PostMapping("/excel")
+    public ResponseEntity<?> importExcel(@RequestParam("file") MultipartFile file,
+                                         @AuthenticationPrincipal AuthUser authUser) {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "File is empty"));
+        }
+        Path temp = null;
+        try {
+            // XLSX 是 zip 包，落盘后按文件打开可随机读取条目，无需整体读入内存
+            temp = Files.createTempFile("import-", ".xlsx");
+            file.transferTo(temp);
+            return ResponseEntity.ok(importService.importExcel(authUser.getId(), temp));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "导入失败: " + e.getMessage()));
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {}
+            }
+        }
+    }
+
+    @PostMapping("/csv")
+    public ResponseEntity<?> importCsv(@RequestParam("file") MultipartFile file,
+                                       @AuthenticationPrincipal AuthUser authUser) {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "File is empty"));
+        }
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(importService.importCsv(authUser.getId(), in));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "导入失败: " + e.getMessage()));
+        }
+    }
+}
@@ -1,19 +1,26 @@
 package com.jobtracker.controller;
 
-import com.jobtracker.entity.Resume;
-import com.jobtracker.entity.User;
 import com.jobtracker.repository.ResumeRepository;
-import com.jobtracker.repository.UserRepository;
+import com.jobtracker.security.AuthUser;
+import com.jobtracker.service.ResumeService;
+import com.jobtracker.storage.FileSender;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.*;
-import java.util.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.Map;
 
 /**
  * 简历管理控制器 - @author dts
@@ -23,15 +30,11 @@ import java.util.*;
 @RequiredArgsConstructor
 public class ResumeController {
     private final ResumeRepository resumeRepository;
-    private final UserRepository userRepository;
-
-    private Long getUserId(UserDetails userDetails) {
-        return userRepository.findByUsername(userDetails.getUsername()).map(User::getId).orElseThrow();
-    }
+    private final ResumeService resumeService;
 
     @GetMapping
-    public ResponseEntity<?> getResumes(@AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(resumeRepository.findByUserIdOrderByCreatedAtDesc(getUserId(userDetails)));
+    public ResponseEntity<?> getResumes(@AuthenticationPrincipal AuthUser authUser) {
+        return ResponseEntity.ok(resumeRepository.findByUserIdOrderByCreatedAtDesc(authUser.getId()));
     }
 
     @PostMapping
@@ -39,52 +42,55 @@ public class ResumeController {
             @RequestParam("file") MultipartFile file,
             @RequestParam("name") String name,
             @RequestParam(value = "description", required = false) String description,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthUser authUser) {
         
         try {
-            Long userId = getUserId(userDetails);
-            User user = userRepository.findById(userId).orElseThrow();
-            
-            String uploadDir = "uploads/resumes/" + userId;
-            Files.createDirectories(Paths.get(uploadDir));
-            
-            String fileName = System.currentTimeMillis() + "_" + file.getOriginalFilename();
-            Path filePath = Paths.get(uploadDir, fileName);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-            Resume resume = Resume.builder()
-                    .user(user)
-                    .name(name)
-                    .description(description)
-                    .filePath(filePath.toString())
-                    .fileType(file.getContentType())
-                    .fileSize(file.getSize())
-                    .isDefault(resumeRepository.findByUserIdOrderByCreatedAtDesc(userId).isEmpty())
-                    .build();
-
-            return ResponseEntity.ok(resumeRepository.save(resume));
+            return ResponseEntity.ok(resumeService.upload(authUser.getId(), file, name, description));
         } catch (IOException e) {
             return ResponseEntity.badRequest().body(Map.of("error", "上传失败: " + e.getMessage()));
         }
     }
 
-    @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteResume(@PathVariable Long id, @AuthenticationPrincipal UserDetails userDetails) {
-        Resume resume = resumeRepository.findById(id)
-                .filter(r -> r.getUser().getId().equals(getUserId(userDetails)))
-                .orElseThrow();
-        
+    /**
+     * 下载简历文件 - 支持 Range 断点续传，ETag / Last-Modified 取自简历更新时间
+     */
+    @GetMapping("/{id}/file")
+    public void download(@PathVariable Long id, @AuthenticationPrincipal AuthUser authUser,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ResumeService.ResumeFile file;
         try {
-            Files.deleteIfExists(Paths.get(resume.getFilePath()));
-        } catch (IOException ignored) {}
-        
-        resumeRepository.delete(resume);
+            file = resumeService.openFile(id, authUser.getId());
+        } catch (NoSuchFileException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String etag = "\"" + id + "-" + file.lastModified() + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        if (new ServletWebRequest(request, response).checkNotModified(etag, file.lastModified())) {
+            return;
+        }
+
+        MediaType type = mediaType(file.contentType());
+        response.setContentType(type.toString());
+        // 仅 PDF 在浏览器内预览，其他类型一律作为附件下载
+        ContentDisposition disposition = (MediaType.APPLICATION_PDF.equalsTypeAndSubtype(type)
+                ? ContentDisposition.inline() : ContentDisposition.attachment())
+                .filename(file.fileName() != null ? file.fileName() : "resume-" + id, StandardCharsets.UTF_8)
+                .build();
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition.toString());
+        FileSender.send(request, response, file.path(), file.length(), etag, file.lastModified());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteResume(@PathVariable Long id, @AuthenticationPrincipal AuthUser authUser) {
+        resumeService.delete(id, authUser.getId());
         return ResponseEntity.ok(Map.of("message", "删除成功"));
     }
 
     @PostMapping("/{id}/set-default")
-    public ResponseEntity<?> setDefault(@PathVariable Long id, @AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = getUserId(userDetails);
+    public ResponseEntity<?> setDefault(@PathVariable Long id, @AuthenticationPrincipal AuthUser authUser) {
+        Long userId = authUser.getId();
         
         resumeRepository.findByUserIdOrderByCreatedAtDesc(userId).forEach(r -> {
             r.setIsDefault(r.getId().equals(id));
@@ -93,4 +99,15 @@ public class ResumeController {
         
         return ResponseEntity.ok(Map.of("message", "设置成功"));
     }
+
+    private static MediaType mediaType(String contentType) {
+        if (contentType == null) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        try {
+            return MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
 }
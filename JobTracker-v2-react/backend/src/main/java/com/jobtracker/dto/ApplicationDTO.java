@@ -11,27 +11,37 @@ public class ApplicationDTO {
     private Long id;
     
     @NotBlank(message = "Company name is required")
+    @Size(max = 100, message = "Company name must be at most 100 characters")
     private String companyName;
     
     @NotBlank(message = "Position name is required")
+    @Size(max = 100, message = "Position name must be at most 100 characters")
     private String positionName;
     
     @NotNull(message = "Apply date is required")
     private LocalDate applyDate;
     
+    @Size(max = 30, message = "Status must be at most 30 characters")
     private String status = "已投递";
     private String notes;
     private Integer salaryMin;
     private Integer salaryMax;
+    @Size(max = 100, message = "Work location must be at most 100 characters")
     private String workLocation;
+    @Size(max = 50, message = "Apply channel must be at most 50 characters")
     private String applyChannel;
+    @Size(max = 100, message = "Referrer must be at most 100 characters")
     private String referrer;
     private LocalDateTime interviewTime;
+    @Size(max = 500, message = "Company website must be at most 500 characters")
     private String companyWebsite;
+    @Size(max = 100, message = "HR contact must be at most 100 characters")
     private String hrContact;
+    @Size(max = 20, message = "HR phone must be at most 20 characters")
     private String hrPhone;
     private String priority = "MEDIUM";
     private Boolean isStarred = false;
+    private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -54,6 +64,7 @@ public class ApplicationDTO {
         dto.setHrPhone(app.getHrPhone());
         dto.setPriority(app.getPriority().name());
         dto.setIsStarred(app.getIsStarred());
+        dto.setVersion(app.getVersion());
         dto.setCreatedAt(app.getCreatedAt());
         dto.setUpdatedAt(app.getUpdatedAt());
         return dto;
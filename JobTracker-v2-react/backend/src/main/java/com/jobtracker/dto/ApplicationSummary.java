@@ -0,0 +1,74 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.Application;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 列表视图的投递记录摘要 - 不含备注等大字段，完整内容通过详情接口获取
+ *
+ * 由 JPQL 构造表达式直接生成，不进入持久化上下文，也不做脏检查。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@Data
+@NoArgsConstructor
+public class ApplicationSummary {
+    /**
+     * JPQL 构造表达式的选择列表，与构造方法参数一一对应 (实体别名为 a)
+     */
+    public static final String SELECT = "SELECT new com.jobtracker.dto.ApplicationSummary(" +
+            "a.id, a.companyName, a.positionName, a.applyDate, a.status, a.salaryMin, a.salaryMax, " +
+            "a.workLocation, a.applyChannel, a.referrer, a.interviewTime, a.companyWebsite, a.hrContact, " +
+            "a.hrPhone, a.priority, a.isStarred, a.version, a.createdAt, a.updatedAt) ";
+
+    private Long id;
+    private String companyName;
+    private String positionName;
+    private LocalDate applyDate;
+    private String status;
+    private Integer salaryMin;
+    private Integer salaryMax;
+    private String workLocation;
+    private String applyChannel;
+    private String referrer;
+    private LocalDateTime interviewTime;
+    private String companyWebsite;
+    private String hrContact;
+    private String hrPhone;
+    private String priority;
+    private Boolean isStarred;
+    private Long version;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public ApplicationSummary(Long id, String companyName, String positionName, LocalDate applyDate,
+                              String status, Integer salaryMin, Integer salaryMax, String workLocation,
+                              String applyChannel, String referrer, LocalDateTime interviewTime,
+                              String companyWebsite, String hrContact, String hrPhone,
+                              Application.Priority priority, Boolean isStarred, Long version,
+                              LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.companyName = companyName;
+        this.positionName = positionName;
+        this.applyDate = applyDate;
+        this.status = status;
+        this.salaryMin = salaryMin;
+        this.salaryMax = salaryMax;
+        this.workLocation = workLocation;
+        this.applyChannel = applyChannel;
+        this.referrer = referrer;
+        this.interviewTime = interviewTime;
+        this.companyWebsite = companyWebsite;
+        this.hrContact = hrContact;
+        this.hrPhone = hrPhone;
+        this.priority = priority != null ? priority.name() : null;
+        this.isStarred = isStarred;
+        this.version = version;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
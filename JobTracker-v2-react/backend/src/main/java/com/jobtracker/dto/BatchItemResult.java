@@ -0,0 +1,26 @@
+package com.jobtracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 批量操作的单条结果 - index 为条目在请求中的位置，失败时 error 给出原因
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResult {
+    private int index;
+    private Long id;
+    private boolean success;
+    private String error;
+
+    public static BatchItemResult ok(int index, Long id) {
+        return new BatchItemResult(index, id, true, null);
+    }
+
+    public static BatchItemResult failed(int index, Long id, String error) {
+        return new BatchItemResult(index, id, false, error);
+    }
+}
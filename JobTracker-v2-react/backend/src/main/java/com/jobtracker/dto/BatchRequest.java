@@ -0,0 +1,16 @@
+package com.jobtracker.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+import java.util.List;
+
+/**
+ * 按ID批量操作的请求体 - 批量删除只需 ids，批量修改状态还需 status
+ */
+@Data
+public class BatchRequest {
+    @NotEmpty(message = "Ids are required")
+    private List<Long> ids;
+    
+    private String status;
+}
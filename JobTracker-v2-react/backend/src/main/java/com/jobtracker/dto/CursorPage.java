@@ -0,0 +1,20 @@
+package com.jobtracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * 游标分页结果 - nextCursor 为下一页的不透明游标，没有下一页时为 null。
+ * total 仅在请求 withCount=true 时返回
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long total;
+}
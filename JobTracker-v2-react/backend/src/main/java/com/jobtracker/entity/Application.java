@@ -2,6 +2,7 @@ package com.jobtracker.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -15,14 +16,22 @@ import java.time.LocalDateTime;
  * @version 2.0.0
  */
 @Entity
-@Table(name = "applications")
+@DynamicUpdate
+@Table(name = "applications", indexes = {
+    @Index(name = "idx_applications_user_created", columnList = "user_id, createdAt, id"),
+    @Index(name = "idx_applications_user_status_created", columnList = "user_id, status, createdAt, id"),
+    @Index(name = "idx_applications_user_starred", columnList = "user_id, isStarred, createdAt"),
+    @Index(name = "idx_applications_interview_time", columnList = "interviewTime")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Application {
+    // 序列主键按 50 个一段预分配，插入前即可得到ID，使 Hibernate 能够批量 INSERT
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applications_seq")
+    @SequenceGenerator(name = "applications_seq", sequenceName = "applications_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -59,6 +68,9 @@ public class Application {
 
     private LocalDateTime interviewTime;
 
+    // 已发送提醒对应的面试时间，面试时间变更后会重新提醒
+    private LocalDateTime reminderSentFor;
+
     @Column(length = 500)
     private String companyWebsite;
 
@@ -75,6 +87,10 @@ public class Application {
     @Builder.Default
     private Boolean isStarred = false;
 
+    // 乐观锁版本号: 并发修改同一记录时后提交者失败
+    @Version
+    private Long version;
+
     @Column(updatable = false)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,42 @@
+package com.jobtracker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.io.Serializable;
+
+/**
+ * 用户投递统计计数 - 每个 (用户, 状态) 一行，随投递记录的增删改同事务调整
+ * 
+ * @author dts
+ * @version 2.0.0
+ */
+@Entity
+@Table(name = "application_counters")
+@IdClass(ApplicationCounter.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationCounter {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(length = 30)
+    private String status;
+
+    // 该状态下的投递数
+    private long total;
+
+    // 该状态下的星标投递数
+    private long starred;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private String status;
+    }
+}
@@ -0,0 +1,64 @@
+package com.jobtracker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 投递趋势汇总 - 按 (用户, 粒度, 时间桶, 状态, 渠道) 预聚合的投递数
+ *
+ * 时间桶按投递日期划分: DAY 为当天，MONTH 为当月第一天。
+ * 
+ * @author dts
+ * @version 2.0.0
+ */
+@Entity
+@Table(name = "application_rollups")
+@IdClass(ApplicationRollup.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationRollup {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // 两种数据库都存为 VARCHAR (MySQL 默认会映射为原生 ENUM)
+    @Id
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 10)
+    private Granularity granularity;
+
+    @Id
+    private LocalDate bucket;
+
+    @Id
+    @Column(length = 30)
+    private String status;
+
+    @Id
+    @Column(length = 50)
+    private String channel;
+
+    private long count;
+
+    public enum Granularity {
+        DAY, MONTH
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private Granularity granularity;
+        private LocalDate bucket;
+        private String status;
+        private String channel;
+    }
+}
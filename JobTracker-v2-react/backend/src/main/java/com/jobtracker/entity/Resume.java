@@ -1,5 +1,6 @@
 package com.jobtracker.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
@@ -18,6 +19,7 @@ public class Resume {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -28,9 +30,17 @@ public class Resume {
     @Column(length = 500)
     private String description;
 
-    @Column(nullable = false)
+    // 旧版上传的文件路径; 新上传的文件按内容存储，由 contentHash 定位
+    @JsonIgnore
     private String filePath;
 
+    // 文件内容的 SHA-256，对应 resume_blobs
+    @Column(length = 64)
+    private String contentHash;
+
+    // 上传时的文件名 (已去除路径)，仅用于下载时的显示名
+    private String fileName;
+
     @Column(length = 50)
     private String fileType;
 
@@ -0,0 +1,34 @@
+package com.jobtracker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * 简历文件内容 - 按 SHA-256 去重存储，refCount 为引用该内容的简历数，降为 0 时删除文件
+ * 
+ * @author dts
+ * @version 2.0.0
+ */
+@Entity
+@Table(name = "resume_blobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeBlob {
+    @Id
+    @Column(length = 64)
+    private String sha256;
+
+    private long fileSize;
+
+    private long refCount;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,64 @@
+package com.jobtracker.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按接口记录每个请求的 Hibernate 语句数和实体加载数 (hibernate.request.statements / hibernate.request.entity.loads)
+ *
+ * 注册在 Spring Security 过滤链之前，认证时查询用户的语句也计入。
+ * 只统计请求线程上执行的语句，流式导出在异步线程上的查询不计入。
+ * 各接口的计量器创建一次后缓存，请求结束时只做一次 Map 查找。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+    private static final double[] BUCKETS = {1, 2, 3, 5, 10, 20, 50, 100};
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, DistributionSummary[]> summaries = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCounter.reset();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            record(request);
+        }
+    }
+
+    private void record(HttpServletRequest request) {
+        // 未进入 MVC 的请求 (如被安全链或限流拒绝) 没有匹配的路径模板
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary[] meters = summaries.computeIfAbsent(request.getMethod() + " " + uri,
+                key -> new DistributionSummary[]{
+                        summary("hibernate.request.statements", request.getMethod(), uri),
+                        summary("hibernate.request.entity.loads", request.getMethod(), uri)
+                });
+        meters[0].record(QueryCounter.statements());
+        meters[1].record(QueryCounter.entityLoads());
+    }
+
+    private DistributionSummary summary(String name, String method, String uri) {
+        return DistributionSummary.builder(name)
+                .tags("method", method, "uri", uri)
+                .serviceLevelObjectives(BUCKETS)
+                .register(meterRegistry);
+    }
+}
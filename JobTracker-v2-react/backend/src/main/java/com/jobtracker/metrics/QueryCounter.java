@@ -0,0 +1,39 @@
+package com.jobtracker.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 当前线程的 Hibernate 语句数和实体加载数 - 每个请求开始时清零，结束时由 QueryCountFilter 记录
+ *
+ * 作为 StatementInspector 注册，每条 SQL 只做一次线程内计数，不修改语句。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+public class QueryCounter implements StatementInspector {
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[2]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNTS.get()[0]++;
+        return sql;
+    }
+
+    static void entityLoaded() {
+        COUNTS.get()[1]++;
+    }
+
+    static void reset() {
+        long[] counts = COUNTS.get();
+        counts[0] = 0;
+        counts[1] = 0;
+    }
+
+    static long statements() {
+        return COUNTS.get()[0];
+    }
+
+    static long entityLoads() {
+        return COUNTS.get()[1];
+    }
+}
@@ -0,0 +1,22 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.ApplicationCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+
+public interface ApplicationCounterRepository extends JpaRepository<ApplicationCounter, ApplicationCounter.Key> {
+    List<ApplicationCounter> findByUserId(Long userId);
+    
+    @Modifying
+    @Query("UPDATE ApplicationCounter c SET c.total = c.total + :total, c.starred = c.starred + :starred " +
+           "WHERE c.userId = :userId AND c.status = :status")
+    int adjust(@Param("userId") Long userId, @Param("status") String status,
+               @Param("total") long total, @Param("starred") long starred);
+    
+    @Modifying
+    @Query("DELETE FROM ApplicationCounter c WHERE c.userId = :userId")
+    int deleteAllForUser(@Param("userId") Long userId);
+}
@@ -1,36 +1,178 @@
 package com.jobtracker.repository;
 
+import com.jobtracker.dto.ApplicationSummary;
 import com.jobtracker.entity.Application;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
-    Page<Application> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    /**
+     * 按 (createdAt, id) 倒序。排序列按索引列的完整顺序给出: user_id (及 status) 已由条件固定，
+     * 不改变结果顺序，但 H2 只在 ORDER BY 与索引列从首列起一致时才选用复合索引并按索引顺序读取，
+     * 否则会选择外键上的单列索引再排序
+     */
+    String BY_USER_CREATED = "ORDER BY a.user.id DESC, a.createdAt DESC, a.id DESC";
+
+    String BY_USER_STATUS_CREATED = "ORDER BY a.user.id DESC, a.status DESC, a.createdAt DESC, a.id DESC";
+
+    /**
+     * 列表分页: 只查询摘要列。不筛选和按状态筛选各用一条语句，使每条都能由对应的复合索引定位，
+     * 顺序由语句给出，传入的 Pageable 不应再带排序
+     */
+    @Query(value = ApplicationSummary.SELECT + "FROM Application a WHERE a.user.id = :userId " + BY_USER_CREATED,
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.user.id = :userId")
+    Page<ApplicationSummary> findSummaries(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query(value = ApplicationSummary.SELECT + "FROM Application a WHERE a.user.id = :userId AND a.status = :status " +
+                   BY_USER_STATUS_CREATED,
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.user.id = :userId AND a.status = :status")
+    Page<ApplicationSummary> findSummariesByStatus(@Param("userId") Long userId, @Param("status") String status,
+                                                   Pageable pageable);
+    
+    @Query(ApplicationSummary.SELECT + "FROM Application a WHERE a.user.id = :userId AND a.id IN :ids")
+    List<ApplicationSummary> findSummariesByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+    
+    List<Application> findByIdInAndUserId(Collection<Long> ids, Long userId);
+    
+    /**
+     * 游标方式读取用户记录 (用于导出)，调用方需在事务内消费并关闭 Stream
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Application a WHERE a.user.id = :userId " + BY_USER_CREATED)
+    Stream<Application> streamForExport(@Param("userId") Long userId);
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Application a WHERE a.user.id = :userId AND a.status = :status " +
+           BY_USER_STATUS_CREATED)
+    Stream<Application> streamForExportByStatus(@Param("userId") Long userId, @Param("status") String status);
+    
+    /**
+     * 按ID批量只读加载 (用于关键词导出)，结果不保证顺序
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT a FROM Application a WHERE a.user.id = :userId AND a.id IN :ids")
+    List<Application> findForExport(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+    
+    /**
+     * 游标分页首页: 按 (createdAt, id) 倒序，不执行 COUNT。
+     * 不筛选和按状态筛选各用一条语句，分别由 (user_id, created_at, id) 和 (user_id, status, created_at, id) 索引定位
+     */
+    @Query(ApplicationSummary.SELECT + "FROM Application a WHERE a.user.id = :userId " + BY_USER_CREATED)
+    List<ApplicationSummary> findFirstPage(@Param("userId") Long userId, Limit limit);
     
-    List<Application> findByUserIdOrderByCreatedAtDesc(Long userId);
+    @Query(ApplicationSummary.SELECT + "FROM Application a WHERE a.user.id = :userId AND a.status = :status " +
+           BY_USER_STATUS_CREATED)
+    List<ApplicationSummary> findFirstPageByStatus(@Param("userId") Long userId, @Param("status") String status,
+                                                   Limit limit);
     
-    Page<Application> findByUserIdAndStatusOrderByCreatedAtDesc(Long userId, String status, Pageable pageable);
+    /**
+     * 游标分页后续页: 从 (createdAt, id) 之后继续定位，避免 OFFSET 扫描。
+     * 冗余的 createdAt <= :createdAt 使索引可按范围定位起点
+     */
+    @Query(ApplicationSummary.SELECT + "FROM Application a WHERE a.user.id = :userId " +
+           "AND a.createdAt <= :createdAt " +
+           "AND (a.createdAt < :createdAt OR a.id < :id) " +
+           BY_USER_CREATED)
+    List<ApplicationSummary> findPageAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id, Limit limit);
     
-    @Query("SELECT a FROM Application a WHERE a.user.id = :userId AND " +
-           "(LOWER(a.companyName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(a.positionName) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<Application> searchByKeyword(@Param("userId") Long userId, @Param("keyword") String keyword, Pageable pageable);
+    @Query(ApplicationSummary.SELECT + "FROM Application a WHERE a.user.id = :userId AND a.status = :status " +
+           "AND a.createdAt <= :createdAt " +
+           "AND (a.createdAt < :createdAt OR a.id < :id) " +
+           BY_USER_STATUS_CREATED)
+    List<ApplicationSummary> findPageAfterByStatus(@Param("userId") Long userId, @Param("status") String status,
+                                                   @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                   Limit limit);
     
-    @Query("SELECT a.status, COUNT(a) FROM Application a WHERE a.user.id = :userId GROUP BY a.status")
-    List<Object[]> countByStatusForUser(@Param("userId") Long userId);
+    long countByUserIdAndStatus(Long userId, String status);
+    
+    /**
+     * 建立检索索引所需字段: [id, createdAt, companyName, positionName, workLocation, hrContact, notes]
+     */
+    @Query("SELECT a.id, a.createdAt, a.companyName, a.positionName, a.workLocation, a.hrContact, a.notes " +
+           "FROM Application a WHERE a.user.id = :userId")
+    List<Object[]> findSearchDocuments(@Param("userId") Long userId);
+    
+    /**
+     * 按状态统计: [status, 投递数, 星标数]，用于重建统计计数
+     */
+    @Query("SELECT a.status, COUNT(a), SUM(CASE WHEN a.isStarred = true THEN 1 ELSE 0 END) " +
+           "FROM Application a WHERE a.user.id = :userId GROUP BY a.status")
+    List<Object[]> countersForUser(@Param("userId") Long userId);
     
     @Query("SELECT COUNT(a) FROM Application a WHERE a.user.id = :userId")
     Long countByUserId(@Param("userId") Long userId);
     
-    List<Application> findByUserIdAndIsStarredTrue(Long userId);
+    @Query(ApplicationSummary.SELECT + "FROM Application a WHERE a.user.id = :userId AND a.isStarred = true " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ApplicationSummary> findStarredSummaries(@Param("userId") Long userId, Limit limit);
+    
+    /**
+     * 按投递日期、状态、渠道分组计数: [applyDate, status, applyChannel, count]，用于重建趋势汇总
+     */
+    @Query("SELECT a.applyDate, a.status, a.applyChannel, COUNT(a) FROM Application a " +
+           "WHERE a.user.id = :userId GROUP BY a.applyDate, a.status, a.applyChannel")
+    List<Object[]> rollupSourceForUser(@Param("userId") Long userId);
+    
+    /**
+     * 查找时间窗口内尚未提醒的面试，只返回 [id, interviewTime]
+     */
+    @Query("SELECT a.id, a.interviewTime FROM Application a " +
+           "WHERE a.interviewTime > :from AND a.interviewTime <= :to " +
+           "AND (a.reminderSentFor IS NULL OR a.reminderSentFor <> a.interviewTime)")
+    List<Object[]> findReminderCandidates(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    @Query("SELECT a FROM Application a JOIN FETCH a.user WHERE a.id = :id")
+    Optional<Application> findByIdWithUser(@Param("id") Long id);
+    
+    /**
+     * 记录已发送提醒; 面试时间在此期间被修改时不做标记
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Application a SET a.reminderSentFor = :interviewTime " +
+           "WHERE a.id = :id AND a.interviewTime = :interviewTime")
+    int markReminderSent(@Param("id") Long id, @Param("interviewTime") LocalDateTime interviewTime);
+    
+    /**
+     * 星标/状态切换前读取计数相关字段: [status, isStarred, applyDate, applyChannel, version]
+     */
+    @Query("SELECT a.status, a.isStarred, a.applyDate, a.applyChannel, a.version FROM Application a " +
+           "WHERE a.id = :id AND a.user.id = :userId")
+    List<Object[]> findFlags(@Param("id") Long id, @Param("userId") Long userId);
+    
+    /**
+     * 以版本号为条件更新星标，版本已变化时不更新 (返回 0)
+     */
+    @Modifying
+    @Query("UPDATE Application a SET a.isStarred = :starred, a.version = a.version + 1, a.updatedAt = :now " +
+           "WHERE a.id = :id AND a.user.id = :userId AND a.version = :version")
+    int updateStarred(@Param("id") Long id, @Param("userId") Long userId, @Param("starred") boolean starred,
+                      @Param("version") Long version, @Param("now") LocalDateTime now);
     
-    @Query("SELECT FUNCTION('DATE_FORMAT', a.applyDate, '%Y-%m') as month, COUNT(a) as count " +
-           "FROM Application a WHERE a.user.id = :userId GROUP BY FUNCTION('DATE_FORMAT', a.applyDate, '%Y-%m') " +
-           "ORDER BY month DESC")
-    List<Object[]> countByMonthForUser(@Param("userId") Long userId);
+    @Modifying
+    @Query("UPDATE Application a SET a.status = :status, a.version = a.version + 1, a.updatedAt = :now " +
+           "WHERE a.id = :id AND a.user.id = :userId AND a.version = :version")
+    int updateStatus(@Param("id") Long id, @Param("userId") Long userId, @Param("status") String status,
+                     @Param("version") Long version, @Param("now") LocalDateTime now);
 }
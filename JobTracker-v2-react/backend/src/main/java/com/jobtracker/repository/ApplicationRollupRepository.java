@@ -0,0 +1,26 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.ApplicationRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ApplicationRollupRepository extends JpaRepository<ApplicationRollup, ApplicationRollup.Key> {
+    List<ApplicationRollup> findByUserIdAndGranularityAndBucketBetweenOrderByBucket(
+            Long userId, ApplicationRollup.Granularity granularity, LocalDate from, LocalDate to);
+    
+    @Modifying
+    @Query("UPDATE ApplicationRollup r SET r.count = r.count + :delta " +
+           "WHERE r.userId = :userId AND r.granularity = :granularity AND r.bucket = :bucket " +
+           "AND r.status = :status AND r.channel = :channel")
+    int adjust(@Param("userId") Long userId, @Param("granularity") ApplicationRollup.Granularity granularity,
+               @Param("bucket") LocalDate bucket, @Param("status") String status,
+               @Param("channel") String channel, @Param("delta") long delta);
+    
+    @Modifying
+    @Query("DELETE FROM ApplicationRollup r WHERE r.userId = :userId")
+    int deleteAllForUser(@Param("userId") Long userId);
+}
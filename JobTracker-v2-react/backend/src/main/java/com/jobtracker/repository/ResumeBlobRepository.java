@@ -0,0 +1,20 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.ResumeBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ResumeBlobRepository extends JpaRepository<ResumeBlob, String> {
+    @Modifying
+    @Query("UPDATE ResumeBlob b SET b.refCount = b.refCount + :delta WHERE b.sha256 = :sha256")
+    int adjustRefCount(@Param("sha256") String sha256, @Param("delta") long delta);
+    
+    /**
+     * 删除已无引用的内容记录，返回 1 表示本次删除
+     */
+    @Modifying
+    @Query("DELETE FROM ResumeBlob b WHERE b.sha256 = :sha256 AND b.refCount <= 0")
+    int deleteIfUnreferenced(@Param("sha256") String sha256);
+}
@@ -7,4 +7,5 @@ import java.util.List;
 public interface ResumeRepository extends JpaRepository<Resume, Long> {
     List<Resume> findByUserIdOrderByCreatedAtDesc(Long userId);
     List<Resume> findByUserIdAndIsDefaultTrue(Long userId);
+    boolean existsByUserId(Long userId);
 }
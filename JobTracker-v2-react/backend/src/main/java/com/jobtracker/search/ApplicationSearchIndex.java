@@ -0,0 +1,227 @@
+package com.jobtracker.search;
+
+import com.jobtracker.entity.Application;
+import com.jobtracker.repository.ApplicationRepository;
+import com.jobtracker.util.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 投递记录全文索引 - 按用户维护的内存倒排索引
+ *
+ * 用户第一次搜索时从数据库加载建立索引，之后随增删改增量维护 (事务提交后生效)。
+ * 索引公司名、职位、工作地点、HR联系人和备注，按字段加权的词频打分。
+ * 常驻内存的用户数有上限，按最近使用淘汰，被淘汰的用户下次搜索时重建。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationSearchIndex {
+    private static final float COMPANY_WEIGHT = 3f;
+    private static final float POSITION_WEIGHT = 2f;
+    private static final float DEFAULT_WEIGHT = 1f;
+    private static final float NOTES_WEIGHT = 0.5f;
+
+    private final ApplicationRepository applicationRepository;
+
+    @Value("${search.max-indexed-users:1000}")
+    private int maxIndexedUsers;
+
+    private Map<Long, UserIndex> users;
+
+    /**
+     * 命中结果，按得分降序、创建时间降序排列
+     */
+    public record Hit(Long id, LocalDateTime createdAt, float score) {}
+
+    /**
+     * 被索引的字段快照
+     */
+    public record Document(Long id, LocalDateTime createdAt, String companyName, String positionName,
+                           String workLocation, String hrContact, String notes) {
+        public static Document of(Application app) {
+            return new Document(app.getId(), app.getCreatedAt(), app.getCompanyName(), app.getPositionName(),
+                    app.getWorkLocation(), app.getHrContact(), app.getNotes());
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        users = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserIndex> eldest) {
+                return size() > maxIndexedUsers;
+            }
+        });
+    }
+
+    public List<Hit> search(Long userId, String keyword) {
+        List<String> terms = SearchTokenizer.queryTerms(keyword);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        return indexFor(userId).search(terms);
+    }
+
+    /**
+     * 新增或更新文档，事务提交后生效
+     */
+    public void index(Long userId, Application app) {
+        Document doc = Document.of(app);
+        TransactionHooks.afterCommit(() -> {
+            UserIndex index = users.get(userId);
+            if (index != null) {
+                index.put(doc);
+            }
+        });
+    }
+
+    /**
+     * 删除文档，事务提交后生效
+     */
+    public void remove(Long userId, Long applicationId) {
+        TransactionHooks.afterCommit(() -> {
+            UserIndex index = users.get(userId);
+            if (index != null) {
+                index.remove(applicationId);
+            }
+        });
+    }
+
+    private UserIndex indexFor(Long userId) {
+        UserIndex existing = users.get(userId);
+        if (existing != null) {
+            return existing;
+        }
+        UserIndex created = new UserIndex();
+        // 先持有写锁再注册，加载期间到达的增量更新会排队到加载完成之后
+        created.lock.writeLock().lock();
+        try {
+            UserIndex raced = users.putIfAbsent(userId, created);
+            if (raced != null) {
+                return raced;
+            }
+            long start = System.currentTimeMillis();
+            for (Object[] row : applicationRepository.findSearchDocuments(userId)) {
+                created.put(new Document((Long) row[0], (LocalDateTime) row[1], (String) row[2], (String) row[3],
+                        (String) row[4], (String) row[5], (String) row[6]));
+            }
+            log.debug("已建立用户 {} 的检索索引: {} 条, {} ms", userId, created.size(), System.currentTimeMillis() - start);
+            return created;
+        } catch (RuntimeException e) {
+            users.remove(userId, created);
+            throw e;
+        } finally {
+            created.lock.writeLock().unlock();
+        }
+    }
+
+    private static final class UserIndex {
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        final Map<String, Map<Long, Float>> postings = new HashMap<>();
+        final Map<Long, Set<String>> docTerms = new HashMap<>();
+        final Map<Long, LocalDateTime> createdAt = new HashMap<>();
+
+        int size() {
+            return docTerms.size();
+        }
+
+        void put(Document doc) {
+            Map<String, Float> weights = new HashMap<>();
+            addField(weights, doc.companyName(), COMPANY_WEIGHT);
+            addField(weights, doc.positionName(), POSITION_WEIGHT);
+            addField(weights, doc.workLocation(), DEFAULT_WEIGHT);
+            addField(weights, doc.hrContact(), DEFAULT_WEIGHT);
+            addField(weights, doc.notes(), NOTES_WEIGHT);
+
+            lock.writeLock().lock();
+            try {
+                removeLocked(doc.id());
+                weights.forEach((term, weight) ->
+                        postings.computeIfAbsent(term, t -> new HashMap<>()).put(doc.id(), weight));
+                docTerms.put(doc.id(), weights.keySet());
+                createdAt.put(doc.id(), doc.createdAt());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long id) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<Hit> search(List<String> terms) {
+            List<Hit> hits = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                List<Map<Long, Float>> lists = new ArrayList<>(terms.size());
+                for (String term : terms) {
+                    Map<Long, Float> list = postings.get(term);
+                    if (list == null) {
+                        return hits;
+                    }
+                    lists.add(list);
+                }
+                // 从最短的倒排表开始求交集
+                lists.sort(Comparator.comparingInt(Map::size));
+                Map<Long, Float> shortest = lists.get(0);
+                candidates:
+                for (Map.Entry<Long, Float> entry : shortest.entrySet()) {
+                    float score = entry.getValue();
+                    for (int i = 1; i < lists.size(); i++) {
+                        Float weight = lists.get(i).get(entry.getKey());
+                        if (weight == null) {
+                            continue candidates;
+                        }
+                        score += weight;
+                    }
+                    hits.add(new Hit(entry.getKey(), createdAt.get(entry.getKey()), score));
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            hits.sort(Comparator.comparing(Hit::score).reversed()
+                    .thenComparing(Hit::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(Hit::id, Comparator.reverseOrder()));
+            return hits;
+        }
+
+        private void removeLocked(Long id) {
+            Set<String> terms = docTerms.remove(id);
+            if (terms == null) {
+                return;
+            }
+            for (String term : terms) {
+                Map<Long, Float> list = postings.get(term);
+                if (list != null) {
+                    list.remove(id);
+                    if (list.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            createdAt.remove(id);
+        }
+
+        private static void addField(Map<String, Float> weights, String text, float weight) {
+            for (String term : SearchTokenizer.indexTerms(text)) {
+                weights.merge(term, weight, Float::sum);
+            }
+        }
+    }
+}
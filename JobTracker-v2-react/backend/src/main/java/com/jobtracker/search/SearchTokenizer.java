@@ -0,0 +1,78 @@
+package com.jobtracker.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 检索分词器 - 基于字符 n-gram，不依赖词典，对中文公司名、职位名友好
+ *
+ * 文本先做 NFKC 归一化 (全角转半角) 并转小写，按非字母数字字符切分成片段;
+ * 每个片段产生所有单字和相邻二元组。查询时长度 >= 2 的片段只用二元组匹配，
+ * 单字片段用单字匹配，效果接近 LIKE '%keyword%' 的子串匹配。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+public final class SearchTokenizer {
+    private SearchTokenizer() {}
+
+    /**
+     * 文档分词: 单字 + 二元组 (允许重复，重复次数即词频)
+     */
+    public static List<String> indexTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String run : runs(text)) {
+            for (int i = 0; i < run.length(); i++) {
+                terms.add(run.substring(i, i + 1));
+                if (i + 1 < run.length()) {
+                    terms.add(run.substring(i, i + 2));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 查询分词: 每个片段只取能覆盖它的最少的词项
+     */
+    public static List<String> queryTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String run : runs(text)) {
+            if (run.length() == 1) {
+                terms.add(run);
+                continue;
+            }
+            for (int i = 0; i + 1 < run.length(); i++) {
+                String bigram = run.substring(i, i + 2);
+                if (!terms.contains(bigram)) {
+                    terms.add(bigram);
+                }
+            }
+        }
+        return terms;
+    }
+
+    private static List<String> runs(String text) {
+        List<String> runs = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return runs;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        int start = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                runs.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            runs.add(normalized.substring(start));
+        }
+        return runs;
+    }
+}
@@ -0,0 +1,57 @@
+package com.jobtracker.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * 认证主体 - 携带用户ID和登录响应所需的基本资料，控制器无需再按用户名查询用户表
+ *
+ * 注意: 不实现 CredentialsContainer，实例会被缓存复用，不能在认证后擦除密码。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@Getter
+public class AuthUser implements UserDetails {
+    private final Long id;
+    private final String username;
+    private final String password;
+    private final String email;
+    private final String realName;
+
+    public AuthUser(Long id, String username, String password, String email, String realName) {
+        this.id = id;
+        this.username = username;
+        this.password = password;
+        this.email = email;
+        this.realName = realName;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
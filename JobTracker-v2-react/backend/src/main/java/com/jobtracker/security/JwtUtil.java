@@ -1,11 +1,16 @@
 package com.jobtracker.security;
 
+import com.jobtracker.util.ExpiringCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 
 @Component
@@ -16,45 +21,79 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Value("${jwt.cache-size:10000}")
+    private int cacheSize;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private ExpiringCache<String, TokenClaims> verifiedTokens;
+
+    private static final String USER_ID_CLAIM = "uid";
+
+    /**
+     * 已验签的令牌信息 - 一次解析同时得到用户名、用户ID和过期时间
+     * (旧令牌没有用户ID声明时 userId 为 null)
+     */
+    public record TokenClaims(String username, Long userId, Date expiration) {}
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser().verifyWith(signingKey).build();
+        verifiedTokens = new ExpiringCache<>(cacheSize);
     }
 
-    public String generateToken(String username) {
+    public String generateToken(String username, Long userId) {
         return Jwts.builder()
                 .subject(username)
+                .claim(USER_ID_CLAIM, userId)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * 解析并验证令牌，签名无效或已过期时返回 null。
+     * 验证结果按令牌摘要缓存到过期时间为止，同一令牌只做一次 HMAC 验签。
+     */
+    public TokenClaims parseToken(String token) {
+        String key = digest(token);
+        TokenClaims cached = verifiedTokens.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                return null;
+            }
+            Number userId = claims.get(USER_ID_CLAIM, Number.class);
+            TokenClaims verified = new TokenClaims(claims.getSubject(),
+                    userId != null ? userId.longValue() : null, claims.getExpiration());
+            verifiedTokens.put(key, verified, verified.expiration().getTime());
+            return verified;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     public String extractUsername(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        TokenClaims claims = parseToken(token);
+        return claims != null ? claims.username() : null;
     }
 
     public boolean validateToken(String token, String username) {
-        try {
-            String extractedUsername = extractUsername(token);
-            return extractedUsername.equals(username) && !isTokenExpired(token);
-        } catch (JwtException e) {
-            return false;
-        }
+        TokenClaims claims = parseToken(token);
+        return claims != null && claims.username().equals(username);
     }
 
-    private boolean isTokenExpired(String token) {
-        Date expiration = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getExpiration();
-        return expiration.before(new Date());
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
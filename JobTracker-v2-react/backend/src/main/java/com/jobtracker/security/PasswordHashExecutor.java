@@ -0,0 +1,51 @@
+package com.jobtracker.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 密码哈希专用线程池 - 登录校验和注册加密 (BCrypt) 在这里执行，不占用 Tomcat 请求线程
+ *
+ * 线程数和排队数都有上限，登录洪峰时超出部分直接拒绝，其余接口的请求线程不受影响。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@Component
+public class PasswordHashExecutor {
+    @Value("${auth.hash.threads:0}")
+    private int threads;
+
+    @Value("${auth.hash.queue-capacity:100}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        executor = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 提交任务; 队列已满时抛出 RejectedExecutionException
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+}
@@ -0,0 +1,116 @@
+package com.jobtracker.security;
+
+import com.jobtracker.util.RateLimiter;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 限流过滤器 - 位于 JwtAuthenticationFilter 之前，超出限额返回 429 和 Retry-After
+ *
+ * 登录/注册按客户端 IP 计数; 导出/导入按用户 (取自令牌，验签结果有缓存) 和 IP 分别计数。
+ * 其余请求只做一次路径前缀判断即放行。部署在反向代理之后时需开启
+ * server.forward-headers-strategy，否则所有请求的 IP 都是代理地址。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String AUTH_PREFIX = "/api/auth/";
+    private static final String EXPORT_PREFIX = "/api/export/";
+    private static final String IMPORT_PREFIX = "/api/import/";
+
+    private final JwtUtil jwtUtil;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    @Value("${rate-limit.auth.per-minute:20}")
+    private int authPerMinute;
+
+    @Value("${rate-limit.auth.burst:10}")
+    private int authBurst;
+
+    @Value("${rate-limit.export.per-minute:6}")
+    private int exportPerMinute;
+
+    @Value("${rate-limit.export.burst:3}")
+    private int exportBurst;
+
+    @Value("${rate-limit.export.ip-per-minute:30}")
+    private int exportIpPerMinute;
+
+    private RateLimiter authByIp;
+    private RateLimiter exportByUser;
+    private RateLimiter exportByIp;
+
+    @PostConstruct
+    void init() {
+        authByIp = new RateLimiter(authPerMinute, authBurst, maxKeys);
+        exportByUser = new RateLimiter(exportPerMinute, exportBurst, maxKeys);
+        exportByIp = new RateLimiter(exportIpPerMinute, exportBurst, maxKeys);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || "OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return !path.startsWith(AUTH_PREFIX) && !path.startsWith(EXPORT_PREFIX) && !path.startsWith(IMPORT_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String ip = request.getRemoteAddr();
+        long wait;
+        if (request.getRequestURI().startsWith(AUTH_PREFIX)) {
+            wait = authByIp.tryAcquire(ip);
+        } else {
+            wait = exportByIp.tryAcquire(ip);
+            Long userId = userId(request);
+            if (wait == 0 && userId != null) {
+                wait = exportByUser.tryAcquire(userId.toString());
+            }
+        }
+        if (wait > 0) {
+            reject(response, wait);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Long userId(HttpServletRequest request) {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return null;
+        }
+        JwtUtil.TokenClaims claims = jwtUtil.parseToken(authHeader.substring(7));
+        return claims != null ? claims.userId() : null;
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too many requests, retry after " + seconds + "s\"}");
+    }
+}
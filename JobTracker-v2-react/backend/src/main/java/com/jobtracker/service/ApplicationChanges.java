@@ -0,0 +1,97 @@
+package com.jobtracker.service;
+
+import com.jobtracker.entity.Application;
+import com.jobtracker.entity.ApplicationRollup;
+import com.jobtracker.entity.ApplicationRollup.Granularity;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 投递记录变更对统计计数和趋势汇总的净影响
+ *
+ * 一次写操作 (单条或批量) 内的变更先在内存中按计数键合并，
+ * 提交前由 StatisticsService / TrendService 各自一次性写入，批量操作不会按条目逐一更新计数行。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+public final class ApplicationChanges {
+    private final Long userId;
+    private final Map<String, long[]> counters = new HashMap<>();
+    private final Map<ApplicationRollup.Key, Long> rollups = new HashMap<>();
+
+    public ApplicationChanges(Long userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * 影响计数的字段快照，状态和渠道为空时记为空串
+     */
+    public record State(String status, boolean starred, LocalDate applyDate, String channel) {
+        public static State of(Application app) {
+            return of(app.getStatus(), app.getIsStarred(), app.getApplyDate(), app.getApplyChannel());
+        }
+
+        public static State of(String status, Boolean starred, LocalDate applyDate, String channel) {
+            return new State(key(status), Boolean.TRUE.equals(starred), applyDate, key(channel));
+        }
+
+        public State withStatus(String status) {
+            return new State(key(status), starred, applyDate, channel);
+        }
+
+        public State withStarred(boolean starred) {
+            return new State(status, starred, applyDate, channel);
+        }
+    }
+
+    public void created(State state) {
+        add(state, 1);
+    }
+
+    public void deleted(State state) {
+        add(state, -1);
+    }
+
+    public void changed(State before, State after) {
+        if (before.equals(after)) {
+            return;
+        }
+        add(before, -1);
+        add(after, 1);
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    /**
+     * 状态 -> [总数增量, 星标数增量]
+     */
+    Map<String, long[]> counterDeltas() {
+        return counters;
+    }
+
+    Map<ApplicationRollup.Key, Long> rollupDeltas() {
+        return rollups;
+    }
+
+    private void add(State state, long sign) {
+        long[] counter = counters.computeIfAbsent(state.status(), k -> new long[2]);
+        counter[0] += sign;
+        counter[1] += state.starred() ? sign : 0;
+        if (state.applyDate() == null) {
+            return;
+        }
+        rollups.merge(new ApplicationRollup.Key(userId, Granularity.DAY, state.applyDate(),
+                state.status(), state.channel()), sign, Long::sum);
+        rollups.merge(new ApplicationRollup.Key(userId, Granularity.MONTH, state.applyDate().withDayOfMonth(1),
+                state.status(), state.channel()), sign, Long::sum);
+    }
+
+    private static String key(String value) {
+        return value != null ? value : "";
+    }
+}
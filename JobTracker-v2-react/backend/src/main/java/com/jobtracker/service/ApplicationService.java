@@ -1,14 +1,28 @@
 package com.jobtracker.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobtracker.dto.ApplicationDTO;
+import com.jobtracker.dto.ApplicationSummary;
+import com.jobtracker.dto.BatchItemResult;
+import com.jobtracker.dto.CursorPage;
 import com.jobtracker.entity.Application;
+import com.jobtracker.entity.ApplicationCounter;
 import com.jobtracker.entity.User;
 import com.jobtracker.repository.ApplicationRepository;
 import com.jobtracker.repository.UserRepository;
+import com.jobtracker.search.ApplicationSearchIndex;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -21,19 +35,149 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class ApplicationService {
+    // 仪表盘展示的星标记录条数
+    private static final int STARRED_PREVIEW = 6;
+
     private final ApplicationRepository applicationRepository;
     private final UserRepository userRepository;
+    private final ReminderScheduler reminderScheduler;
+    private final ApplicationSearchIndex searchIndex;
+    private final StatisticsService statisticsService;
+    private final TrendService trendService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final UserRevisions userRevisions;
+
+    /**
+     * 列表只返回摘要 (不含备注)，以构造表达式查询，结果不进入持久化上下文
+     */
+    public Page<ApplicationSummary> getApplications(Long userId, String status, String keyword, Pageable pageable) {
+        if (keyword != null && !keyword.isEmpty()) {
+            return search(userId, keyword, pageable);
+        }
+        if (status != null && !status.isEmpty()) {
+            return applicationRepository.findSummariesByStatus(userId, status, pageable);
+        }
+        return applicationRepository.findSummaries(userId, pageable);
+    }
+
+    /**
+     * 关键词检索: 由全文索引给出按相关度排序的ID，再按页查询摘要
+     */
+    private Page<ApplicationSummary> search(Long userId, String keyword, Pageable pageable) {
+        List<ApplicationSearchIndex.Hit> hits = searchIndex.search(userId, keyword);
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<Long> ids = hits.subList(from, to).stream().map(ApplicationSearchIndex.Hit::id).toList();
+        return new PageImpl<>(loadSummaries(userId, ids), pageable, hits.size());
+    }
 
-    public Page<ApplicationDTO> getApplications(Long userId, String status, String keyword, Pageable pageable) {
-        Page<Application> apps;
+    /**
+     * 游标分页: 按 (createdAt, id) 定位下一页，只在 withCount 时统计总数
+     */
+    public CursorPage<ApplicationSummary> getApplicationsByCursor(Long userId, String status, String keyword,
+                                                                  String cursor, int size, boolean withCount) {
+        Cursor after = decodeCursor(cursor);
         if (keyword != null && !keyword.isEmpty()) {
-            apps = applicationRepository.searchByKeyword(userId, keyword, pageable);
-        } else if (status != null && !status.isEmpty()) {
-            apps = applicationRepository.findByUserIdAndStatusOrderByCreatedAtDesc(userId, status, pageable);
+            return searchByCursor(userId, keyword, after, size, withCount);
+        }
+
+        String statusFilter = status != null && !status.isEmpty() ? status : null;
+        // 多取一条用于判断是否还有下一页
+        Limit limit = Limit.of(size + 1);
+        List<ApplicationSummary> apps;
+        if (after == null) {
+            apps = statusFilter == null
+                    ? applicationRepository.findFirstPage(userId, limit)
+                    : applicationRepository.findFirstPageByStatus(userId, statusFilter, limit);
         } else {
-            apps = applicationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
+            apps = statusFilter == null
+                    ? applicationRepository.findPageAfter(userId, after.createdAt(), after.id(), limit)
+                    : applicationRepository.findPageAfterByStatus(userId, statusFilter, after.createdAt(), after.id(),
+                            limit);
+        }
+
+        boolean hasNext = apps.size() > size;
+        List<ApplicationSummary> page = hasNext ? apps.subList(0, size) : apps;
+        String nextCursor = null;
+        if (hasNext) {
+            ApplicationSummary last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+        Long total = null;
+        if (withCount) {
+            total = statusFilter == null ? applicationRepository.countByUserId(userId)
+                    : applicationRepository.countByUserIdAndStatus(userId, statusFilter);
+        }
+        return new CursorPage<>(page, nextCursor, hasNext, total);
+    }
+
+    /**
+     * 关键词检索的游标分页: 命中结果按 (createdAt, id) 倒序后在内存中定位
+     */
+    private CursorPage<ApplicationSummary> searchByCursor(Long userId, String keyword, Cursor after,
+                                                          int size, boolean withCount) {
+        Comparator<ApplicationSearchIndex.Hit> order = Comparator
+                .comparing(ApplicationSearchIndex.Hit::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(ApplicationSearchIndex.Hit::id, Comparator.reverseOrder());
+        List<ApplicationSearchIndex.Hit> matched = searchIndex.search(userId, keyword);
+        List<ApplicationSearchIndex.Hit> hits = matched.stream()
+                .filter(h -> after == null || isAfter(h, after))
+                .sorted(order)
+                .toList();
+
+        boolean hasNext = hits.size() > size;
+        List<ApplicationSearchIndex.Hit> page = hasNext ? hits.subList(0, size) : hits;
+        List<ApplicationSummary> content = loadSummaries(
+                userId, page.stream().map(ApplicationSearchIndex.Hit::id).toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            ApplicationSearchIndex.Hit last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.createdAt(), last.id());
+        }
+        Long total = withCount ? (long) matched.size() : null;
+        return new CursorPage<>(content, nextCursor, hasNext, total);
+    }
+
+    /**
+     * 按给定ID顺序返回摘要，已被删除的记录跳过
+     */
+    private List<ApplicationSummary> loadSummaries(Long userId, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ApplicationSummary> byId = applicationRepository.findSummariesByIds(userId, ids).stream()
+                .collect(Collectors.toMap(ApplicationSummary::getId, a -> a));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private record Cursor(LocalDateTime createdAt, Long id) {}
+
+    private static boolean isAfter(ApplicationSearchIndex.Hit hit, Cursor cursor) {
+        if (hit.createdAt() == null) {
+            return false;
+        }
+        int cmp = hit.createdAt().compareTo(cursor.createdAt());
+        return cmp < 0 || (cmp == 0 && hit.id() < cursor.id());
+    }
+
+    private static String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new Cursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
         }
-        return apps.map(ApplicationDTO::fromEntity);
     }
 
     public ApplicationDTO getApplicationById(Long id, Long userId) {
@@ -45,30 +189,18 @@ public class ApplicationService {
 
     @Transactional
     public ApplicationDTO createApplication(ApplicationDTO dto, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        Application app = Application.builder()
-                .user(user)
-                .companyName(dto.getCompanyName())
-                .positionName(dto.getPositionName())
-                .applyDate(dto.getApplyDate())
-                .status(dto.getStatus())
-                .notes(dto.getNotes())
-                .salaryMin(dto.getSalaryMin())
-                .salaryMax(dto.getSalaryMax())
-                .workLocation(dto.getWorkLocation())
-                .applyChannel(dto.getApplyChannel())
-                .referrer(dto.getReferrer())
-                .interviewTime(dto.getInterviewTime())
-                .companyWebsite(dto.getCompanyWebsite())
-                .hrContact(dto.getHrContact())
-                .hrPhone(dto.getHrPhone())
-                .priority(Application.Priority.valueOf(dto.getPriority()))
-                .isStarred(dto.getIsStarred())
-                .build();
+        // 用户ID来自认证主体，直接取引用，避免额外的用户表查询
+        User user = userRepository.getReferenceById(userId);
+        Application app = Application.builder().user(user).build();
+        copyFields(dto, app);
         
-        return ApplicationDTO.fromEntity(applicationRepository.save(app));
+        Application saved = applicationRepository.save(app);
+        ApplicationChanges changes = new ApplicationChanges(userId);
+        changes.created(ApplicationChanges.State.of(saved));
+        applyChanges(changes);
+        reminderScheduler.schedule(saved.getId(), saved.getInterviewTime());
+        searchIndex.index(userId, saved);
+        return ApplicationDTO.fromEntity(saved);
     }
 
     @Transactional
@@ -76,7 +208,256 @@ public class ApplicationService {
         Application app = applicationRepository.findById(id)
                 .filter(a -> a.getUser().getId().equals(userId))
                 .orElseThrow(() -> new RuntimeException("Application not found"));
+        if (dto.getVersion() != null && !dto.getVersion().equals(app.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Application.class, id);
+        }
+        ApplicationChanges.State before = ApplicationChanges.State.of(app);
+        copyFields(dto, app);
         
+        Application saved = applicationRepository.save(app);
+        ApplicationChanges changes = new ApplicationChanges(userId);
+        changes.changed(before, ApplicationChanges.State.of(saved));
+        applyChanges(changes);
+        reminderScheduler.schedule(saved.getId(), saved.getInterviewTime());
+        searchIndex.index(userId, saved);
+        return ApplicationDTO.fromEntity(saved);
+    }
+
+    @Transactional
+    public void deleteApplication(Long id, Long userId) {
+        Application app = applicationRepository.findById(id)
+                .filter(a -> a.getUser().getId().equals(userId))
+                .orElseThrow(() -> new RuntimeException("Application not found"));
+        applicationRepository.delete(app);
+        ApplicationChanges changes = new ApplicationChanges(userId);
+        changes.deleted(ApplicationChanges.State.of(app));
+        applyChanges(changes);
+        reminderScheduler.cancel(id);
+        searchIndex.remove(userId, id);
+    }
+
+    /**
+     * 批量创建: 校验失败的条目跳过并在结果中说明，其余条目在同一事务内写入。
+     * 主键由序列按段预分配，INSERT 在提交时按 JDBC 批次发送
+     */
+    @Transactional
+    public List<BatchItemResult> batchCreate(List<ApplicationDTO> dtos, Long userId) {
+        User user = userRepository.getReferenceById(userId);
+        ApplicationChanges changes = new ApplicationChanges(userId);
+        List<BatchItemResult> results = new ArrayList<>(dtos.size());
+        List<Application> created = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            ApplicationDTO dto = dtos.get(i);
+            String error = validate(dto);
+            if (error != null) {
+                results.add(BatchItemResult.failed(i, null, error));
+                continue;
+            }
+            Application app = Application.builder().user(user).build();
+            copyFields(dto, app);
+            applicationRepository.save(app);
+            changes.created(ApplicationChanges.State.of(app));
+            created.add(app);
+            results.add(BatchItemResult.ok(i, app.getId()));
+        }
+        applyChanges(changes);
+        for (Application app : created) {
+            reminderScheduler.schedule(app.getId(), app.getInterviewTime());
+            searchIndex.index(userId, app);
+        }
+        return results;
+    }
+
+    /**
+     * 批量更新: 一次查询加载本人的目标记录，修改后由脏检查在提交时批量 UPDATE。
+     * 携带的版本号与当前记录不一致的条目判为冲突，不做修改
+     */
+    @Transactional
+    public List<BatchItemResult> batchUpdate(List<ApplicationDTO> dtos, Long userId) {
+        Map<Long, Application> owned = loadOwned(dtos.stream().map(ApplicationDTO::getId).toList(), userId);
+        ApplicationChanges changes = new ApplicationChanges(userId);
+        List<BatchItemResult> results = new ArrayList<>(dtos.size());
+        Map<Long, Application> updated = new LinkedHashMap<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            ApplicationDTO dto = dtos.get(i);
+            Application app = dto.getId() != null ? owned.get(dto.getId()) : null;
+            String error = app == null ? "Application not found" : validate(dto);
+            if (error == null && dto.getVersion() != null && !dto.getVersion().equals(app.getVersion())) {
+                error = "version conflict";
+            }
+            if (error != null) {
+                results.add(BatchItemResult.failed(i, dto.getId(), error));
+                continue;
+            }
+            ApplicationChanges.State before = ApplicationChanges.State.of(app);
+            copyFields(dto, app);
+            changes.changed(before, ApplicationChanges.State.of(app));
+            updated.put(app.getId(), app);
+            results.add(BatchItemResult.ok(i, app.getId()));
+        }
+        applyChanges(changes);
+        for (Application app : updated.values()) {
+            reminderScheduler.schedule(app.getId(), app.getInterviewTime());
+            searchIndex.index(userId, app);
+        }
+        return results;
+    }
+
+    @Transactional
+    public List<BatchItemResult> batchDelete(List<Long> ids, Long userId) {
+        Map<Long, Application> owned = loadOwned(ids, userId);
+        ApplicationChanges changes = new ApplicationChanges(userId);
+        List<BatchItemResult> results = new ArrayList<>(ids.size());
+        List<Application> deleted = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            // 重复的ID只删除一次
+            Application app = ids.get(i) != null ? owned.remove(ids.get(i)) : null;
+            if (app == null) {
+                results.add(BatchItemResult.failed(i, ids.get(i), "Application not found"));
+                continue;
+            }
+            changes.deleted(ApplicationChanges.State.of(app));
+            deleted.add(app);
+            results.add(BatchItemResult.ok(i, app.getId()));
+        }
+        applicationRepository.deleteAll(deleted);
+        applyChanges(changes);
+        for (Application app : deleted) {
+            reminderScheduler.cancel(app.getId());
+            searchIndex.remove(userId, app.getId());
+        }
+        return results;
+    }
+
+    @Transactional
+    public List<BatchItemResult> batchUpdateStatus(List<Long> ids, String status, Long userId) {
+        Map<Long, Application> owned = loadOwned(ids, userId);
+        ApplicationChanges changes = new ApplicationChanges(userId);
+        List<BatchItemResult> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Application app = ids.get(i) != null ? owned.get(ids.get(i)) : null;
+            if (app == null) {
+                results.add(BatchItemResult.failed(i, ids.get(i), "Application not found"));
+                continue;
+            }
+            ApplicationChanges.State before = ApplicationChanges.State.of(app);
+            app.setStatus(status);
+            changes.changed(before, ApplicationChanges.State.of(app));
+            results.add(BatchItemResult.ok(i, app.getId()));
+        }
+        applyChanges(changes);
+        return results;
+    }
+
+    /**
+     * 部分更新: 只应用请求体中出现的字段，实体以动态 UPDATE 写回，只更新实际变化的列。
+     * 请求带 version 时须与当前版本一致，否则视为并发修改
+     */
+    @Transactional
+    public ApplicationDTO patchApplication(Long id, JsonNode patch, Long userId) {
+        Application app = applicationRepository.findById(id)
+                .filter(a -> a.getUser().getId().equals(userId))
+                .orElseThrow(() -> new RuntimeException("Application not found"));
+        ApplicationDTO dto;
+        try {
+            dto = objectMapper.readerForUpdating(ApplicationDTO.fromEntity(app)).readValue(patch);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid patch");
+        }
+        if (!Objects.equals(dto.getVersion(), app.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Application.class, id);
+        }
+        String error = validate(dto);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+        ApplicationChanges.State before = ApplicationChanges.State.of(app);
+        LocalDateTime oldInterviewTime = app.getInterviewTime();
+        copyFields(dto, app);
+
+        // 立即刷写，使返回的版本号和更新时间为写入后的值
+        Application saved = applicationRepository.saveAndFlush(app);
+        ApplicationChanges changes = new ApplicationChanges(userId);
+        changes.changed(before, ApplicationChanges.State.of(saved));
+        applyChanges(changes);
+        if (!Objects.equals(oldInterviewTime, saved.getInterviewTime())) {
+            reminderScheduler.schedule(saved.getId(), saved.getInterviewTime());
+        }
+        searchIndex.index(userId, saved);
+        return ApplicationDTO.fromEntity(saved);
+    }
+
+    /**
+     * 切换星标: 读取少量字段后以版本号为条件单条 UPDATE，不加载实体
+     */
+    @Transactional
+    public Map<String, Object> toggleStar(Long id, Long userId) {
+        Object[] row = loadFlags(id, userId);
+        ApplicationChanges.State before = ApplicationChanges.State.of(
+                (String) row[0], (Boolean) row[1], (LocalDate) row[2], (String) row[3]);
+        boolean starred = !before.starred();
+        Long version = (Long) row[4];
+        if (applicationRepository.updateStarred(id, userId, starred, version, LocalDateTime.now()) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Application.class, id);
+        }
+        ApplicationChanges changes = new ApplicationChanges(userId);
+        changes.changed(before, before.withStarred(starred));
+        applyChanges(changes);
+        return Map.of("id", id, "isStarred", starred, "version", version + 1);
+    }
+
+    /**
+     * 修改状态: 与切换星标相同，单条 UPDATE 完成
+     */
+    @Transactional
+    public Map<String, Object> updateStatus(Long id, String status, Long userId) {
+        Object[] row = loadFlags(id, userId);
+        ApplicationChanges.State before = ApplicationChanges.State.of(
+                (String) row[0], (Boolean) row[1], (LocalDate) row[2], (String) row[3]);
+        Long version = (Long) row[4];
+        if (applicationRepository.updateStatus(id, userId, status, version, LocalDateTime.now()) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Application.class, id);
+        }
+        ApplicationChanges changes = new ApplicationChanges(userId);
+        changes.changed(before, before.withStatus(status));
+        applyChanges(changes);
+        return Map.of("id", id, "status", status, "version", version + 1);
+    }
+
+    private Object[] loadFlags(Long id, Long userId) {
+        List<Object[]> rows = applicationRepository.findFlags(id, userId);
+        if (rows.isEmpty()) {
+            throw new RuntimeException("Application not found");
+        }
+        return rows.get(0);
+    }
+
+    private Map<Long, Application> loadOwned(List<Long> ids, Long userId) {
+        Set<Long> distinct = ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (distinct.isEmpty()) {
+            return new HashMap<>();
+        }
+        return applicationRepository.findByIdInAndUserId(distinct, userId).stream()
+                .collect(Collectors.toMap(Application::getId, a -> a));
+    }
+
+    /**
+     * 逐条校验批量请求，返回第一条错误信息，通过时返回 null
+     */
+    private String validate(ApplicationDTO dto) {
+        Set<ConstraintViolation<ApplicationDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        try {
+            Application.Priority.valueOf(dto.getPriority());
+        } catch (RuntimeException e) {
+            return "Invalid priority: " + dto.getPriority();
+        }
+        return null;
+    }
+
+    private static void copyFields(ApplicationDTO dto, Application app) {
         app.setCompanyName(dto.getCompanyName());
         app.setPositionName(dto.getPositionName());
         app.setApplyDate(dto.getApplyDate());
@@ -93,41 +474,49 @@ public class ApplicationService {
         app.setHrPhone(dto.getHrPhone());
         app.setPriority(Application.Priority.valueOf(dto.getPriority()));
         app.setIsStarred(dto.getIsStarred());
-        
-        return ApplicationDTO.fromEntity(applicationRepository.save(app));
     }
 
-    @Transactional
-    public void deleteApplication(Long id, Long userId) {
-        Application app = applicationRepository.findById(id)
-                .filter(a -> a.getUser().getId().equals(userId))
-                .orElseThrow(() -> new RuntimeException("Application not found"));
-        applicationRepository.delete(app);
-    }
-
-    @Transactional
-    public ApplicationDTO toggleStar(Long id, Long userId) {
-        Application app = applicationRepository.findById(id)
-                .filter(a -> a.getUser().getId().equals(userId))
-                .orElseThrow(() -> new RuntimeException("Application not found"));
-        app.setIsStarred(!app.getIsStarred());
-        return ApplicationDTO.fromEntity(applicationRepository.save(app));
+    /**
+     * 所有写操作的公共出口: 写入计数和趋势汇总，并在提交后更新用户修订号
+     */
+    private void applyChanges(ApplicationChanges changes) {
+        statisticsService.apply(changes);
+        trendService.apply(changes);
+        userRevisions.bump(changes.userId());
     }
 
+    /**
+     * 统计数据直接读取计数表，星标列表只取最近几条用于仪表盘展示
+     */
+    @Transactional(readOnly = true)
     public Map<String, Object> getStatistics(Long userId) {
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("total", applicationRepository.countByUserId(userId));
-        
+        long total = 0;
+        long starredCount = 0;
         Map<String, Long> byStatus = new HashMap<>();
-        for (Object[] row : applicationRepository.countByStatusForUser(userId)) {
-            byStatus.put((String) row[0], (Long) row[1]);
+        for (ApplicationCounter counter : statisticsService.getCounters(userId)) {
+            total += counter.getTotal();
+            starredCount += counter.getStarred();
+            if (counter.getTotal() > 0) {
+                byStatus.put(counter.getStatus(), counter.getTotal());
+            }
         }
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("total", total);
         stats.put("byStatus", byStatus);
+        stats.put("starredCount", starredCount);
         
-        List<ApplicationDTO> starred = applicationRepository.findByUserIdAndIsStarredTrue(userId)
-                .stream().map(ApplicationDTO::fromEntity).collect(Collectors.toList());
+        List<ApplicationSummary> starred = starredCount == 0 ? List.of()
+                : applicationRepository.findStarredSummaries(userId, Limit.of(STARRED_PREVIEW));
         stats.put("starred", starred);
         
         return stats;
     }
+
+    @Transactional
+    public void rebuildStatistics(Long userId) {
+        statisticsService.rebuild(userId);
+        trendService.rebuild(userId);
+        userRevisions.bump(userId);
+    }
 }
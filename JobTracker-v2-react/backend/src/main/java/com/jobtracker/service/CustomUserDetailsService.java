@@ -2,22 +2,48 @@ package com.jobtracker.service;
 
 import com.jobtracker.entity.User;
 import com.jobtracker.repository.UserRepository;
+import com.jobtracker.security.AuthUser;
+import com.jobtracker.util.ExpiringCache;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
-import java.util.Collections;
 
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
 
+    @Value("${auth.user-cache-ttl:60000}")
+    private long cacheTtl;
+
+    @Value("${auth.user-cache-size:10000}")
+    private int cacheSize;
+
+    private ExpiringCache<String, AuthUser> cache;
+
+    @PostConstruct
+    void init() {
+        cache = new ExpiringCache<>(cacheSize);
+    }
+
+    /**
+     * 按用户名加载认证主体，结果短时缓存，热点接口不再每次查询用户表。
+     * 缓存只按 TTL 过期: 目前没有修改或停用用户的接口，新增此类写入时需同时失效对应条目
+     */
     @Override
-    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+    public AuthUser loadUserByUsername(String username) throws UsernameNotFoundException {
+        AuthUser cached = cache.get(username);
+        if (cached != null) {
+            return cached;
+        }
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(), user.getPassword(), Collections.emptyList());
+        AuthUser authUser = new AuthUser(user.getId(), user.getUsername(), user.getPassword(),
+                user.getEmail(), user.getRealName());
+        cache.put(username, authUser, System.currentTimeMillis() + cacheTtl);
+        return authUser;
     }
 }
@@ -7,13 +7,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 
 /**
  * 邮件提醒服务 - 发送面试时间提醒邮件
@@ -25,22 +22,19 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 public class EmailService {
-    private final JavaMailSender mailSender;
+    private final MailDispatcher mailDispatcher;
     private final ApplicationRepository applicationRepository;
 
     @Value("${spring.mail.username:}")
     private String fromEmail;
 
-    @Value("${reminder.hours-before:24}")
-    private int hoursBeforeReminder;
-
     /**
-     * 发送面试提醒邮件
+     * 提交面试提醒邮件到异步投递队列，发送成功后执行 onSent。返回是否已入队
      */
-    public void sendInterviewReminder(User user, Application app) {
+    public boolean sendInterviewReminder(User user, Application app, Runnable onSent) {
         if (fromEmail.isEmpty() || user.getEmail() == null) {
             log.warn("邮件配置不完整，跳过发送提醒");
-            return;
+            return false;
         }
 
         try {
@@ -68,36 +62,27 @@ public class EmailService {
             );
             
             message.setText(content);
-            mailSender.send(message);
-            log.info("已发送面试提醒邮件给: {} - {}", user.getEmail(), app.getCompanyName());
+            boolean accepted = mailDispatcher.submit(message, onSent);
+            if (accepted) {
+                log.info("已提交面试提醒邮件给: {} - {}", user.getEmail(), app.getCompanyName());
+            }
+            return accepted;
         } catch (Exception e) {
             log.error("发送邮件失败: {}", e.getMessage());
+            return false;
         }
     }
 
     /**
-     * 定时任务：每小时检查即将到来的面试
+     * 由 ReminderScheduler 在提醒时间点调用: 重新读取记录，确认面试时间未变且尚未提醒后发送
      */
-    @Scheduled(fixedRate = 3600000) // 每小时执行一次
-    public void checkUpcomingInterviews() {
-        log.info("检查即将到来的面试...");
-        
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime reminderTime = now.plusHours(hoursBeforeReminder);
-        
-        // 查找所有在提醒时间范围内的面试
-        List<Application> upcomingInterviews = applicationRepository.findAll().stream()
-            .filter(app -> app.getInterviewTime() != null)
-            .filter(app -> {
-                LocalDateTime interviewTime = app.getInterviewTime();
-                return interviewTime.isAfter(now) && interviewTime.isBefore(reminderTime);
-            })
-            .toList();
-
-        for (Application app : upcomingInterviews) {
-            sendInterviewReminder(app.getUser(), app);
+    public void remind(Long applicationId, LocalDateTime interviewTime) {
+        Application app = applicationRepository.findByIdWithUser(applicationId).orElse(null);
+        if (app == null || !interviewTime.equals(app.getInterviewTime())
+                || interviewTime.equals(app.getReminderSentFor())) {
+            return;
         }
-        
-        log.info("检查完成，共发送 {} 条面试提醒", upcomingInterviews.size());
+        sendInterviewReminder(app.getUser(), app,
+                () -> applicationRepository.markReminderSent(applicationId, interviewTime));
     }
 }
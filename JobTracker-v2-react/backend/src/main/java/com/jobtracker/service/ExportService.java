@@ -0,0 +1,214 @@
+package com.jobtracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jobtracker.dto.ApplicationDTO;
+import com.jobtracker.entity.Application;
+import com.jobtracker.repository.ApplicationRepository;
+import com.jobtracker.search.ApplicationSearchIndex;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 数据导出服务 - 以游标方式逐行读取数据并流式写出，内存占用与记录数无关
+ * 
+ * @author dts
+ * @version 2.0.0
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+    public static final String[] HEADERS = {"公司名称", "职位名称", "投递日期", "状态", "薪资范围", "工作地点", "投递渠道", "内推人", "面试时间", "备注"};
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    // SXSSF 内存中保留的行数，超出部分刷写到临时文件
+    private static final int ROW_WINDOW = 100;
+    private static final int WRITE_BUFFER = 64 * 1024;
+    // 关键词导出时每批按ID加载的条数
+    private static final int ID_BATCH = 500;
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationSearchIndex searchIndex;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 导出 Excel，直接写入响应输出流
+     */
+    @Transactional(readOnly = true)
+    public void writeExcel(Long userId, String status, String keyword, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try (Stream<Application> apps = stream(userId, status, keyword)) {
+            Sheet sheet = workbook.createSheet("投递记录");
+
+            // 表头样式
+            CellStyle headerStyle = workbook.createCellStyle();
+            Font headerFont = workbook.createFont();
+            headerFont.setBold(true);
+            headerStyle.setFont(headerFont);
+            headerStyle.setFillForegroundColor(IndexedColors.LIGHT_BLUE.getIndex());
+            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+
+            // 表头
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < HEADERS.length; i++) {
+                Cell cell = headerRow.createCell(i);
+                cell.setCellValue(HEADERS[i]);
+                cell.setCellStyle(headerStyle);
+                sheet.setColumnWidth(i, 4000);
+            }
+
+            // 数据: 写完即从持久化上下文中移除，避免一级缓存随行数增长
+            int[] rowNum = {1};
+            apps.forEach(app -> {
+                writeRow(sheet.createRow(rowNum[0]++), app);
+                entityManager.detach(app);
+            });
+
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     * 导出 CSV (RFC 4180)，列布局与 Excel 一致
+     */
+    @Transactional(readOnly = true)
+    public void writeCsv(Long userId, String status, String keyword, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER);
+        try (Stream<Application> apps = stream(userId, status, keyword)) {
+            writeCsvLine(writer, HEADERS);
+            String[] line = new String[HEADERS.length];
+            for (Application app : (Iterable<Application>) apps::iterator) {
+                for (int i = 0; i < line.length; i++) {
+                    line[i] = cellValue(app, i);
+                }
+                writeCsvLine(writer, line);
+                entityManager.detach(app);
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * 导出 NDJSON，每行一个 ApplicationDTO
+     */
+    @Transactional(readOnly = true)
+    public void writeNdjson(Long userId, String status, String keyword, OutputStream out) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(out, WRITE_BUFFER);
+        boolean empty = true;
+        try (Stream<Application> apps = stream(userId, status, keyword)) {
+            // 关闭逐条 flush，由缓冲区按块写出
+            SequenceWriter writer = objectMapper.writerFor(ApplicationDTO.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(buffered);
+            for (Application app : (Iterable<Application>) apps::iterator) {
+                writer.write(ApplicationDTO.fromEntity(app));
+                entityManager.detach(app);
+                empty = false;
+            }
+            writer.flush();
+        }
+        // 末行也以换行结束，便于按行追加处理
+        if (!empty) {
+            buffered.write('\n');
+        }
+        buffered.flush();
+    }
+
+    /**
+     * 筛选规则与 ApplicationService.getApplications 一致: 关键词优先于状态，
+     * 关键词由全文索引匹配，按相关度顺序分批加载
+     */
+    private Stream<Application> stream(Long userId, String status, String keyword) {
+        if (keyword != null && !keyword.isEmpty()) {
+            List<Long> ids = searchIndex.search(userId, keyword).stream().map(ApplicationSearchIndex.Hit::id).toList();
+            return IntStream.range(0, (ids.size() + ID_BATCH - 1) / ID_BATCH)
+                    .mapToObj(i -> ids.subList(i * ID_BATCH, Math.min((i + 1) * ID_BATCH, ids.size())))
+                    .flatMap(batch -> loadInOrder(userId, batch));
+        }
+        if (status != null && !status.isEmpty()) {
+            return applicationRepository.streamForExportByStatus(userId, status);
+        }
+        return applicationRepository.streamForExport(userId);
+    }
+
+    private Stream<Application> loadInOrder(Long userId, List<Long> ids) {
+        Map<Long, Application> byId = new HashMap<>();
+        for (Application app : applicationRepository.findForExport(userId, ids)) {
+            byId.put(app.getId(), app);
+        }
+        return ids.stream().map(byId::get).filter(Objects::nonNull);
+    }
+
+    public static void writeRow(Row row, Application app) {
+        for (int i = 0; i < HEADERS.length; i++) {
+            row.createCell(i).setCellValue(cellValue(app, i));
+        }
+    }
+
+    private static String cellValue(Application app, int column) {
+        return switch (column) {
+            case 0 -> app.getCompanyName();
+            case 1 -> app.getPositionName();
+            case 2 -> app.getApplyDate() != null ? app.getApplyDate().format(DATE_FORMATTER) : "";
+            case 3 -> app.getStatus();
+            case 4 -> app.getSalaryMin() != null && app.getSalaryMax() != null ?
+                    app.getSalaryMin() + "-" + app.getSalaryMax() + "K" : "";
+            case 5 -> app.getWorkLocation() != null ? app.getWorkLocation() : "";
+            case 6 -> app.getApplyChannel() != null ? app.getApplyChannel() : "";
+            case 7 -> app.getReferrer() != null ? app.getReferrer() : "";
+            case 8 -> app.getInterviewTime() != null ? app.getInterviewTime().format(DATE_TIME_FORMATTER) : "";
+            case 9 -> app.getNotes() != null ? app.getNotes() : "";
+            default -> throw new IllegalArgumentException("Unknown column: " + column);
+        };
+    }
+
+    private static void writeCsvLine(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i] != null ? values[i] : "";
+            if (needsQuoting(value)) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,345 @@
+package com.jobtracker.service;
+
+import com.jobtracker.dto.ApplicationDTO;
+import com.jobtracker.dto.BatchItemResult;
+import com.jobtracker.dto.ImportReport;
+import com.jobtracker.util.CsvReader;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 数据导入服务 - 列布局与导出一致，逐行流式解析并分批写入
+ *
+ * XLSX 使用 POI 事件模型 (SAX) 读取，CSV 逐条读取记录; 解析出的行按批交给
+ * ApplicationService.batchCreate，每批一个事务，内存中只保留当前批次。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportService {
+    private static final int COMPANY = 0, POSITION = 1, APPLY_DATE = 2, STATUS = 3, SALARY = 4,
+            LOCATION = 5, CHANNEL = 6, REFERRER = 7, INTERVIEW_TIME = 8, NOTES = 9;
+    // 表头之外的列不读取，避免异常宽的表格占用内存
+    private static final int MAX_COLUMNS = 64;
+
+    private static final DateTimeFormatter[] DATE_FORMATS = {
+            DateTimeFormatter.ofPattern("yyyy-M-d"),
+            DateTimeFormatter.ofPattern("yyyy/M/d"),
+            DateTimeFormatter.ofPattern("yyyy.M.d"),
+            DateTimeFormatter.ofPattern("M/d/yy")
+    };
+    private static final DateTimeFormatter[] DATE_TIME_FORMATS = {
+            DateTimeFormatter.ofPattern("yyyy-M-d H:mm[:ss]"),
+            DateTimeFormatter.ofPattern("yyyy/M/d H:mm[:ss]"),
+            DateTimeFormatter.ofPattern("yyyy-M-d'T'H:mm[:ss]"),
+            DateTimeFormatter.ofPattern("M/d/yy H:mm[:ss]")
+    };
+    // 9999-12-31 对应的日期序号
+    private static final double MAX_EXCEL_SERIAL = 2958465;
+    private static final Pattern EXCEL_SERIAL = Pattern.compile("\\d+(\\.\\d+)?");
+    // 与导出格式 "10-20K" 对应，也接受 "10k~20k" 等写法
+    private static final Pattern SALARY_RANGE = Pattern.compile("(\\d+)\\s*[kK]?\\s*[-~～至]\\s*(\\d+)\\s*[kK]?");
+
+    private final ApplicationService applicationService;
+    private final EntityManager entityManager;
+
+    @Value("${import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${import.max-errors:1000}")
+    private int maxErrors;
+
+    /**
+     * 导入 XLSX 的第一个工作表。文件以随机访问方式打开，避免把整个压缩包读入内存
+     */
+    public ImportReport importExcel(Long userId, Path file) throws IOException {
+        ImportSession session = new ImportSession(userId);
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new IllegalArgumentException("Workbook has no sheet");
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, strings, new SheetRows(session), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IllegalArgumentException("Invalid Excel file: " + e.getMessage());
+        }
+        return session.finish();
+    }
+
+    /**
+     * 导入 UTF-8 编码的 CSV，行号按记录计 (引号内的换行不另计行)
+     */
+    public ImportReport importCsv(Long userId, InputStream in) throws IOException {
+        ImportSession session = new ImportSession(userId);
+        try (CsvReader reader = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String[] record;
+            int row = 0;
+            while ((record = reader.readRecord()) != null) {
+                session.accept(++row, record);
+            }
+        }
+        return session.finish();
+    }
+
+    /**
+     * 一次导入的状态: 表头列映射、待写入批次和结果统计
+     */
+    private class ImportSession {
+        private final Long userId;
+        private final ImportReport report = new ImportReport();
+        private final List<ApplicationDTO> pending = new ArrayList<>();
+        private final List<Integer> pendingRows = new ArrayList<>();
+        // 导出列序号 -> 文件中的列序号，-1 表示文件中没有该列
+        private int[] columns;
+
+        ImportSession(Long userId) {
+            this.userId = userId;
+        }
+
+        void accept(int row, String[] cells) {
+            if (columns == null) {
+                columns = mapHeader(cells);
+                return;
+            }
+            if (isBlank(cells)) {
+                return;
+            }
+            report.setTotalRows(report.getTotalRows() + 1);
+            try {
+                pending.add(toDto(cells));
+                pendingRows.add(row);
+            } catch (IllegalArgumentException e) {
+                error(row, e.getMessage());
+                return;
+            }
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        ImportReport finish() {
+            if (columns == null) {
+                throw new IllegalArgumentException("File is empty");
+            }
+            flush();
+            return report;
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                for (BatchItemResult result : applicationService.batchCreate(pending, userId)) {
+                    if (result.isSuccess()) {
+                        report.setImported(report.getImported() + 1);
+                    } else {
+                        error(pendingRows.get(result.getIndex()), result.getError());
+                    }
+                }
+            } catch (RuntimeException e) {
+                // 整批回滚，批内各行都记为失败，后续批次继续导入
+                log.warn("用户 {} 导入批次写入失败: {}", userId, e.getMessage());
+                for (Integer row : pendingRows) {
+                    error(row, "Batch insert failed");
+                }
+            }
+            pending.clear();
+            pendingRows.clear();
+            // 开启 open-in-view 时持久化上下文跨越整个请求，每批提交后清空，避免已导入的实体累积
+            entityManager.clear();
+        }
+
+        private void error(int row, String message) {
+            report.setFailed(report.getFailed() + 1);
+            if (report.getErrors().size() < maxErrors) {
+                report.getErrors().add(new ImportReport.RowError(row, message));
+            } else {
+                report.setErrorsTruncated(true);
+            }
+        }
+
+        private int[] mapHeader(String[] cells) {
+            int[] mapping = new int[ExportService.HEADERS.length];
+            for (int i = 0; i < mapping.length; i++) {
+                mapping[i] = -1;
+                for (int j = 0; j < cells.length; j++) {
+                    if (cells[j] != null && ExportService.HEADERS[i].equals(cells[j].trim())) {
+                        mapping[i] = j;
+                        break;
+                    }
+                }
+            }
+            for (int required : new int[]{COMPANY, POSITION, APPLY_DATE}) {
+                if (mapping[required] < 0) {
+                    throw new IllegalArgumentException("Missing column: " + ExportService.HEADERS[required]);
+                }
+            }
+            return mapping;
+        }
+
+        private ApplicationDTO toDto(String[] cells) {
+            ApplicationDTO dto = new ApplicationDTO();
+            dto.setCompanyName(cell(cells, COMPANY));
+            dto.setPositionName(cell(cells, POSITION));
+            dto.setApplyDate(parseDate(cell(cells, APPLY_DATE)));
+            String status = cell(cells, STATUS);
+            if (status != null) {
+                dto.setStatus(status);
+            }
+            String salary = cell(cells, SALARY);
+            if (salary != null) {
+                Matcher m = SALARY_RANGE.matcher(salary);
+                if (!m.matches()) {
+                    throw new IllegalArgumentException("Invalid salary range: " + salary);
+                }
+                dto.setSalaryMin(Integer.valueOf(m.group(1)));
+                dto.setSalaryMax(Integer.valueOf(m.group(2)));
+            }
+            dto.setWorkLocation(cell(cells, LOCATION));
+            dto.setApplyChannel(cell(cells, CHANNEL));
+            dto.setReferrer(cell(cells, REFERRER));
+            dto.setInterviewTime(parseDateTime(cell(cells, INTERVIEW_TIME)));
+            dto.setNotes(cell(cells, NOTES));
+            return dto;
+        }
+
+        private String cell(String[] cells, int column) {
+            int index = columns[column];
+            if (index < 0 || index >= cells.length || cells[index] == null) {
+                return null;
+            }
+            String value = cells[index].trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+
+    /**
+     * 事件模型回调: 按单元格引用定位列，一行结束后交给 ImportSession
+     */
+    private static class SheetRows implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final ImportSession session;
+        private final List<String> cells = new ArrayList<>();
+
+        SheetRows(ImportSession session) {
+            this.session = session;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            session.accept(rowNum + 1, cells.toArray(new String[0]));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : cells.size();
+            if (column >= MAX_COLUMNS) {
+                return;
+            }
+            while (cells.size() < column) {
+                cells.add(null);
+            }
+            cells.add(formattedValue);
+        }
+    }
+
+    private static boolean isBlank(String[] cells) {
+        for (String cell : cells) {
+            if (cell != null && !cell.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        // 未设置日期格式的单元格读出的是 Excel 日期序号
+        if (EXCEL_SERIAL.matcher(value).matches()) {
+            return fromExcelSerial(value).toLocalDate();
+        }
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(value, format);
+            } catch (DateTimeParseException ignored) {
+            }
+        }
+        throw new IllegalArgumentException("Invalid date: " + value);
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (EXCEL_SERIAL.matcher(value).matches()) {
+            return fromExcelSerial(value);
+        }
+        for (DateTimeFormatter format : DATE_TIME_FORMATS) {
+            try {
+                return LocalDateTime.parse(value, format);
+            } catch (DateTimeParseException ignored) {
+            }
+        }
+        throw new IllegalArgumentException("Invalid interview time: " + value);
+    }
+
+    private static LocalDateTime fromExcelSerial(String value) {
+        double serial = Double.parseDouble(value);
+        if (!DateUtil.isValidExcelDate(serial) || serial > MAX_EXCEL_SERIAL) {
+            throw new IllegalArgumentException("Invalid date: " + value);
+        }
+        return DateUtil.getLocalDateTime(serial);
+    }
+}
@@ -0,0 +1,110 @@
+package com.jobtracker.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 最近登录时间记录 - 登录时只写入内存，后台定期合并写库
+ *
+ * 同一用户在一个周期内多次登录只保留最后一次，写库时以 JDBC 批量执行只更新 last_login 一列的 UPDATE;
+ * 进程异常退出会丢失最后一个周期的记录。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LastLoginRecorder {
+    private static final String UPDATE_SQL = "UPDATE users SET last_login = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${auth.last-login.flush-interval:5000}")
+    private long flushInterval;
+
+    @Value("${auth.last-login.batch-size:500}")
+    private int batchSize;
+
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "last-login-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushQuietly, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+        flushQuietly();
+    }
+
+    public void record(Long userId) {
+        pending.put(userId, LocalDateTime.now());
+    }
+
+    /**
+     * 写入当前累积的记录，返回更新的用户数
+     */
+    public synchronized int flush() {
+        List<Object[]> batch = new ArrayList<>();
+        int flushed = 0;
+        for (Long userId : pending.keySet()) {
+            // remove 返回此刻的最新值，之后到达的登录留到下个周期
+            LocalDateTime time = pending.remove(userId);
+            if (time == null) {
+                continue;
+            }
+            batch.add(new Object[]{Timestamp.valueOf(time), userId});
+            if (batch.size() >= batchSize) {
+                flushed += write(batch);
+            }
+        }
+        return flushed + write(batch);
+    }
+
+    private int write(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+            return batch.size();
+        } catch (Exception e) {
+            // 写库失败时放回，未被更新的登录覆盖的记录下个周期重试
+            batch.forEach(row -> pending.putIfAbsent((Long) row[1], ((Timestamp) row[0]).toLocalDateTime()));
+            throw e;
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("写入最近登录时间失败: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.jobtracker.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMailMessage;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 异步邮件投递 - 有界队列 + 工作线程批量发送
+ *
+ * 每个批次通过同一个 SMTP 连接发送，失败的邮件按指数退避重试，
+ * 在途邮件数 (排队 + 发送中 + 等待重试) 有上限，超出时拒绝提交。
+ * 发送计数、队列深度和批次耗时以 mail.* 指标暴露。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MailDispatcher implements MeterBinder {
+    private final JavaMailSender mailSender;
+
+    @Value("${mail.dispatch.workers:2}")
+    private int workers;
+
+    @Value("${mail.dispatch.batch-size:20}")
+    private int batchSize;
+
+    @Value("${mail.dispatch.max-in-flight:1000}")
+    private int maxInFlight;
+
+    @Value("${mail.dispatch.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${mail.dispatch.retry-backoff:2000}")
+    private long retryBackoff;
+
+    private BlockingQueue<MailJob> queue;
+    private Semaphore inFlight;
+    private ScheduledExecutorService retryExecutor;
+    private final List<Thread> workerThreads = new ArrayList<>();
+    private volatile boolean running = true;
+
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private volatile Timer batchTimer;
+
+    private static final class MailJob {
+        final SimpleMailMessage message;
+        final Runnable onSent;
+        int attempts;
+
+        MailJob(SimpleMailMessage message, Runnable onSent) {
+            this.message = message;
+            this.onSent = onSent;
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        queue = new LinkedBlockingQueue<>(maxInFlight);
+        inFlight = new Semaphore(maxInFlight);
+        retryExecutor = Executors.newSingleThreadScheduledExecutor(daemon("mail-retry"));
+        for (int i = 0; i < workers; i++) {
+            Thread thread = daemon("mail-dispatch-" + i).newThread(this::runWorker);
+            workerThreads.add(thread);
+            thread.start();
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        retryExecutor.shutdownNow();
+        workerThreads.forEach(Thread::interrupt);
+        if (!queue.isEmpty()) {
+            log.warn("邮件队列关闭时仍有 {} 封未发送", queue.size());
+        }
+    }
+
+    /**
+     * 提交一封邮件，发送成功后在工作线程上执行 onSent。
+     * 在途邮件已达上限时返回 false
+     */
+    public boolean submit(SimpleMailMessage message, Runnable onSent) {
+        if (!inFlight.tryAcquire()) {
+            log.warn("邮件队列已满，丢弃: {}", Arrays.toString(message.getTo()));
+            return false;
+        }
+        queue.add(new MailJob(message, onSent));
+        return true;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("mail.sent", sentCount, AtomicLong::get)
+                .description("Mails delivered").register(registry);
+        FunctionCounter.builder("mail.failed", failedCount, AtomicLong::get)
+                .description("Mails given up after retries or rejected as invalid").register(registry);
+        Gauge.builder("mail.queue.depth", this, MailDispatcher::getQueueDepth).register(registry);
+        Gauge.builder("mail.in.flight", this, MailDispatcher::getInFlight).register(registry);
+        batchTimer = Timer.builder("mail.batch.send")
+                .description("SMTP send time per batch").register(registry);
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getInFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    private void runWorker() {
+        List<MailJob> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                sendBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("邮件投递线程异常: {}", e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void sendBatch(List<MailJob> batch) {
+        Map<MimeMessage, MailJob> messages = new IdentityHashMap<>();
+        for (MailJob job : batch) {
+            try {
+                messages.put(toMimeMessage(job.message), job);
+            } catch (MailException e) {
+                log.error("邮件内容无效，放弃发送: {}", e.getMessage());
+                complete(job, false);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Set<MailJob> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+        long start = System.nanoTime();
+        try {
+            // 同一批次复用一个 SMTP 连接
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                failed.addAll(messages.values());
+            } else {
+                e.getFailedMessages().keySet().forEach(m -> failed.add(messages.get(m)));
+            }
+            log.warn("邮件批次部分发送失败: {}/{} - {}", failed.size(), messages.size(), e.getMessage());
+        } catch (MailException e) {
+            failed.addAll(messages.values());
+            log.warn("邮件批次发送失败: {}", e.getMessage());
+        }
+        Timer timer = batchTimer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        for (MailJob job : messages.values()) {
+            if (!failed.contains(job)) {
+                complete(job, true);
+            } else if (++job.attempts < maxAttempts) {
+                long delay = retryBackoff << (job.attempts - 1);
+                retryExecutor.schedule(() -> queue.add(job), delay, TimeUnit.MILLISECONDS);
+            } else {
+                log.error("邮件重试 {} 次后仍失败: {}", job.attempts, Arrays.toString(job.message.getTo()));
+                complete(job, false);
+            }
+        }
+    }
+
+    private void complete(MailJob job, boolean sent) {
+        inFlight.release();
+        if (!sent) {
+            failedCount.incrementAndGet();
+            return;
+        }
+        sentCount.incrementAndGet();
+        if (job.onSent != null) {
+            try {
+                job.onSent.run();
+            } catch (Exception e) {
+                log.error("邮件发送回调失败: {}", e.getMessage());
+            }
+        }
+    }
+
+    private MimeMessage toMimeMessage(SimpleMailMessage message) {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        message.copyTo(new MimeMailMessage(new MimeMessageHelper(mimeMessage, "UTF-8")));
+        return mimeMessage;
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package com.jobtracker.service;
+
+import com.jobtracker.repository.ApplicationRepository;
+import com.jobtracker.util.TransactionHooks;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * 面试提醒调度器 - 为每场面试在提醒时间点精确触发一次
+ *
+ * 启动时只加载未来一个时间窗口 (horizon) 内的面试，之后每隔一个窗口补充加载一次;
+ * 投递记录增删改时增量调整，空闲时没有任何轮询开销。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReminderScheduler {
+    private final ApplicationRepository applicationRepository;
+    private final EmailService emailService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${reminder.hours-before:24}")
+    private int hoursBeforeReminder;
+
+    @Value("${reminder.horizon-hours:6}")
+    private int horizonHours;
+
+    private final ConcurrentHashMap<Long, PendingReminder> pending = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor executor = createExecutor();
+
+    private record PendingReminder(LocalDateTime interviewTime, ScheduledFuture<?> future) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Gauge.builder("reminder.pending", pending, Map::size).register(meterRegistry);
+        executor.scheduleAtFixedRate(this::loadHorizon, 0, horizonHours, TimeUnit.HOURS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 安排 (或重新安排) 一条记录的提醒，事务提交后生效。面试时间为空则取消提醒
+     */
+    public void schedule(Long applicationId, LocalDateTime interviewTime) {
+        TransactionHooks.afterCommit(() -> doSchedule(applicationId, interviewTime));
+    }
+
+    /**
+     * 取消一条记录的提醒，事务提交后生效
+     */
+    public void cancel(Long applicationId) {
+        TransactionHooks.afterCommit(() -> doCancel(applicationId));
+    }
+
+    /**
+     * 加载下一个窗口内需要提醒的面试
+     */
+    void loadHorizon() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<Object[]> rows = applicationRepository.findReminderCandidates(
+                    now, now.plusHours(hoursBeforeReminder + horizonHours));
+            for (Object[] row : rows) {
+                doSchedule((Long) row[0], (LocalDateTime) row[1]);
+            }
+            log.info("已加载面试提醒 {} 条，当前待触发 {} 条", rows.size(), pending.size());
+        } catch (Exception e) {
+            outcome = "error";
+            log.error("加载面试提醒失败: {}", e.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer("reminder.load", "outcome", outcome));
+        }
+    }
+
+    private void doSchedule(Long applicationId, LocalDateTime interviewTime) {
+        LocalDateTime now = LocalDateTime.now();
+        if (interviewTime == null || !interviewTime.isAfter(now)) {
+            doCancel(applicationId);
+            return;
+        }
+        LocalDateTime fireAt = interviewTime.minusHours(hoursBeforeReminder);
+        if (fireAt.isAfter(now.plusHours(horizonHours))) {
+            // 超出当前窗口，由后续的窗口加载负责
+            doCancel(applicationId);
+            return;
+        }
+
+        pending.compute(applicationId, (id, existing) -> {
+            if (existing != null) {
+                if (existing.interviewTime().equals(interviewTime) && !existing.future().isDone()) {
+                    return existing;
+                }
+                existing.future().cancel(false);
+            }
+            long delay = Math.max(0, Duration.between(now, fireAt).toMillis());
+            ScheduledFuture<?> future = executor.schedule(() -> fire(id, interviewTime), delay, TimeUnit.MILLISECONDS);
+            return new PendingReminder(interviewTime, future);
+        });
+    }
+
+    private void doCancel(Long applicationId) {
+        PendingReminder removed = pending.remove(applicationId);
+        if (removed != null) {
+            removed.future().cancel(false);
+        }
+    }
+
+    private void fire(Long applicationId, LocalDateTime interviewTime) {
+        pending.computeIfPresent(applicationId,
+                (id, current) -> current.interviewTime().equals(interviewTime) ? null : current);
+        try {
+            emailService.remind(applicationId, interviewTime);
+            meterRegistry.counter("reminder.fired").increment();
+        } catch (Exception e) {
+            log.error("发送面试提醒失败: {} - {}", applicationId, e.getMessage());
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createExecutor() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "interview-reminder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+}
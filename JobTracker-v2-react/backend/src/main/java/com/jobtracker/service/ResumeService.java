@@ -0,0 +1,178 @@
+package com.jobtracker.service;
+
+import com.jobtracker.entity.Resume;
+import com.jobtracker.entity.ResumeBlob;
+import com.jobtracker.repository.ResumeBlobRepository;
+import com.jobtracker.repository.ResumeRepository;
+import com.jobtracker.repository.UserRepository;
+import com.jobtracker.storage.BlobStore;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Locale;
+
+/**
+ * 简历服务 - 简历文件按内容去重存储，resume_blobs 记录每份内容被多少份简历引用
+ *
+ * 上传时先在事务外流式暂存并计算摘要，事务内登记引用，提交后再把文件放到内容地址;
+ * 删除时引用计数降为 0 才删除文件。同一内容重复上传只多一行简历记录，不占用额外磁盘。
+ * 
+ * @author dts
+ * @version 2.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeService {
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+    private static final int MAX_FILE_TYPE_LENGTH = 50;
+
+    private final ResumeRepository resumeRepository;
+    private final ResumeBlobRepository blobRepository;
+    private final UserRepository userRepository;
+    private final BlobStore blobStore;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 下载所需的文件信息，lastModified 取自简历的更新时间 (毫秒)
+     */
+    public record ResumeFile(Path path, long length, String contentType, String fileName, long lastModified) {}
+
+    public ResumeFile openFile(Long id, Long userId) throws IOException {
+        Resume resume = resumeRepository.findById(id)
+                .filter(r -> r.getUser().getId().equals(userId))
+                .orElseThrow(() -> new RuntimeException("Resume not found"));
+        Path path;
+        if (resume.getContentHash() != null) {
+            path = blobStore.path(resume.getContentHash());
+        } else if (resume.getFilePath() != null) {
+            path = Paths.get(resume.getFilePath());
+        } else {
+            throw new NoSuchFileException("resume " + id);
+        }
+        LocalDateTime modified = resume.getUpdatedAt() != null ? resume.getUpdatedAt() : resume.getCreatedAt();
+        long lastModified = modified != null ? modified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0;
+        return new ResumeFile(path, Files.size(path), resume.getFileType(), resume.getFileName(), lastModified);
+    }
+
+    public Resume upload(Long userId, MultipartFile file, String name, String description) throws IOException {
+        BlobStore.StagedBlob staged = blobStore.stage(file.getInputStream());
+        try {
+            Resume resume;
+            try {
+                resume = transactionTemplate.execute(status -> insert(userId, file, name, description, staged));
+            } catch (RuntimeException e) {
+                // 同一内容首次被并发上传时双方都会插入内容记录，主键冲突的一方重试时改为增加引用
+                if (!isBlobKeyConflict(e)) {
+                    throw e;
+                }
+                resume = transactionTemplate.execute(status -> insert(userId, file, name, description, staged));
+            }
+            try {
+                blobStore.place(staged);
+            } catch (IOException e) {
+                delete(resume.getId(), userId);
+                throw e;
+            }
+            return resume;
+        } finally {
+            blobStore.discard(staged);
+        }
+    }
+
+    public void delete(Long id, Long userId) {
+        Resume resume = transactionTemplate.execute(status -> {
+            Resume r = resumeRepository.findById(id)
+                    .filter(x -> x.getUser().getId().equals(userId))
+                    .orElseThrow(() -> new RuntimeException("Resume not found"));
+            resumeRepository.delete(r);
+            if (r.getContentHash() != null) {
+                blobRepository.adjustRefCount(r.getContentHash(), -1);
+                blobRepository.deleteIfUnreferenced(r.getContentHash());
+            }
+            return r;
+        });
+
+        String hash = resume.getContentHash();
+        if (hash != null) {
+            // 提交后在锁内确认内容记录已不存在 (期间没有重新上传) 再删除文件
+            blobStore.delete(hash, () -> !blobRepository.existsById(hash));
+        } else if (resume.getFilePath() != null) {
+            try {
+                Files.deleteIfExists(Paths.get(resume.getFilePath()));
+            } catch (IOException ignored) {}
+        }
+    }
+
+    private Resume insert(Long userId, MultipartFile file, String name, String description,
+                          BlobStore.StagedBlob staged) {
+        if (blobRepository.adjustRefCount(staged.sha256(), 1) == 0) {
+            entityManager.persist(ResumeBlob.builder()
+                    .sha256(staged.sha256())
+                    .fileSize(staged.size())
+                    .refCount(1)
+                    .build());
+            // 立即刷写，主键冲突在事务内暴露
+            entityManager.flush();
+        }
+        Resume resume = Resume.builder()
+                .user(userRepository.getReferenceById(userId))
+                .name(name)
+                .description(description)
+                .contentHash(staged.sha256())
+                .fileName(sanitizeFileName(file.getOriginalFilename()))
+                .fileType(sanitizeFileType(file.getContentType()))
+                .fileSize(staged.size())
+                .isDefault(!resumeRepository.existsByUserId(userId))
+                .build();
+        return resumeRepository.save(resume);
+    }
+
+    /**
+     * 是否为插入 resume_blobs 时的主键冲突 (异常可能已被转换为 DataIntegrityViolationException)
+     */
+    private static boolean isBlobKeyConflict(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException violation) {
+                String sql = violation.getSQL();
+                return sql != null && sql.toLowerCase(Locale.ROOT).startsWith("insert into resume_blobs");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 只保留文件名本身，去掉路径和控制字符
+     */
+    static String sanitizeFileName(String original) {
+        if (original == null) {
+            return null;
+        }
+        String name = original.replace('\\', '/');
+        name = name.substring(name.lastIndexOf('/') + 1).replaceAll("[\\p{Cntrl}\"]", "").strip();
+        if (name.length() > MAX_FILE_NAME_LENGTH) {
+            name = name.substring(name.length() - MAX_FILE_NAME_LENGTH);
+        }
+        return name.isEmpty() ? null : name;
+    }
+
+    private static String sanitizeFileType(String contentType) {
+        if (contentType == null || contentType.length() > MAX_FILE_TYPE_LENGTH) {
+            return "application/octet-stream";
+        }
+        return contentType;
+    }
+}
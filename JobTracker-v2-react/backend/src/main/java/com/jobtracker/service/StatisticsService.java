@@ -0,0 +1,92 @@
+package com.jobtracker.service;
+
+import com.jobtracker.entity.ApplicationCounter;
+import com.jobtracker.repository.ApplicationCounterRepository;
+import com.jobtracker.repository.ApplicationRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 统计计数服务 - 维护每个用户按状态的投递数和星标数
+ *
+ * 计数在投递记录写入的同一事务中增量调整，读取统计只需按用户读取少量计数行;
+ * 上线前已有记录的计数由迁移脚本 V6 建立; 计数出现偏差时可通过 rebuild 从投递记录重新统计。
+ * 
+ * @author dts
+ * @version 2.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatisticsService {
+    private static final String INSERT_EMPTY =
+            "INSERT INTO application_counters (user_id, status, total, starred) VALUES (?, ?, 0, 0)";
+
+    private final ApplicationCounterRepository counterRepository;
+    private final ApplicationRepository applicationRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 调整计数，必须在调用方的写事务中执行
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void adjust(Long userId, String status, long total, long starred) {
+        if (total == 0 && starred == 0) {
+            return;
+        }
+        String key = key(status);
+        if (counterRepository.adjust(userId, key, total, starred) == 0) {
+            // 计数行不存在时先插入空行再累加; 并发的首次写入只有一方插入成功，另一方的主键冲突
+            // 只使该条语句失败 (不经过事务代理，不会把事务标记为回滚)，随后的累加作用在对方插入的行上
+            try {
+                jdbcTemplate.update(INSERT_EMPTY, userId, key);
+            } catch (DuplicateKeyException ignored) {
+            }
+            counterRepository.adjust(userId, key, total, starred);
+        }
+    }
+
+    /**
+     * 写入一次操作合并后的计数变化
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(ApplicationChanges changes) {
+        changes.counterDeltas().forEach((status, delta) -> adjust(changes.userId(), status, delta[0], delta[1]));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ApplicationCounter> getCounters(Long userId) {
+        return counterRepository.findByUserId(userId);
+    }
+
+    /**
+     * 从投递记录重新统计用户计数，用于修复偏差
+     */
+    @Transactional
+    public List<ApplicationCounter> rebuild(Long userId) {
+        counterRepository.deleteAllForUser(userId);
+        List<ApplicationCounter> counters = new ArrayList<>();
+        for (Object[] row : applicationRepository.countersForUser(userId)) {
+            ApplicationCounter counter = new ApplicationCounter(userId, key((String) row[0]),
+                    ((Number) row[1]).longValue(), ((Number) row[2]).longValue());
+            entityManager.persist(counter);
+            counters.add(counter);
+        }
+        log.info("已重建用户 {} 的统计计数: {} 个状态", userId, counters.size());
+        return counters;
+    }
+
+    private static String key(String status) {
+        return status != null ? status : "";
+    }
+}
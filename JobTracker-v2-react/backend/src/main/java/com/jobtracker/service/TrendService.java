@@ -0,0 +1,125 @@
+package com.jobtracker.service;
+
+import com.jobtracker.entity.ApplicationRollup;
+import com.jobtracker.entity.ApplicationRollup.Granularity;
+import com.jobtracker.repository.ApplicationRepository;
+import com.jobtracker.repository.ApplicationRollupRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 投递趋势服务 - 维护按日/按月预聚合的投递数，趋势查询只读取时间范围内的汇总行
+ *
+ * 汇总随投递记录写入同事务调整，查询代价只与时间范围相关，与投递总数无关，
+ * 也不依赖数据库特有的日期函数。上线前已有记录的汇总由迁移脚本 V7 建立。
+ * 
+ * @author dts
+ * @version 2.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendService {
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final String INSERT_EMPTY = "INSERT INTO application_rollups "
+            + "(user_id, granularity, bucket, status, channel, count) VALUES (?, ?, ?, ?, ?, 0)";
+
+    private final ApplicationRollupRepository rollupRepository;
+    private final ApplicationRepository applicationRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 写入一次操作合并后的汇总变化
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(ApplicationChanges changes) {
+        changes.rollupDeltas().forEach((k, delta) -> {
+            if (delta != 0) {
+                adjustBucket(k.getUserId(), k.getGranularity(), k.getBucket(), k.getStatus(), k.getChannel(), delta);
+            }
+        });
+    }
+
+    /**
+     * 查询趋势: 按时间桶返回总数及按状态、渠道的分布
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getTrends(Long userId, LocalDate from, LocalDate to, Granularity granularity) {
+        LocalDate start = granularity == Granularity.MONTH ? from.withDayOfMonth(1) : from;
+        Map<LocalDate, Map<String, Object>> buckets = new LinkedHashMap<>();
+        for (ApplicationRollup rollup : rollupRepository
+                .findByUserIdAndGranularityAndBucketBetweenOrderByBucket(userId, granularity, start, to)) {
+            if (rollup.getCount() == 0) {
+                continue;
+            }
+            Map<String, Object> bucket = buckets.computeIfAbsent(rollup.getBucket(), b -> newBucket(b, granularity));
+            bucket.merge("total", rollup.getCount(), (a, b) -> (Long) a + (Long) b);
+            merge(bucket, "byStatus", rollup.getStatus(), rollup.getCount());
+            merge(bucket, "byChannel", rollup.getChannel(), rollup.getCount());
+        }
+        return new ArrayList<>(buckets.values());
+    }
+
+    /**
+     * 从投递记录重新汇总，用于修复偏差
+     */
+    @Transactional
+    public void rebuild(Long userId) {
+        rollupRepository.deleteAllForUser(userId);
+        Map<ApplicationRollup.Key, Long> counts = new HashMap<>();
+        for (Object[] row : applicationRepository.rollupSourceForUser(userId)) {
+            LocalDate applyDate = (LocalDate) row[0];
+            long count = ((Number) row[3]).longValue();
+            String status = key((String) row[1]);
+            String channel = key((String) row[2]);
+            counts.merge(new ApplicationRollup.Key(userId, Granularity.DAY, applyDate, status, channel), count, Long::sum);
+            counts.merge(new ApplicationRollup.Key(userId, Granularity.MONTH, applyDate.withDayOfMonth(1), status, channel),
+                    count, Long::sum);
+        }
+        counts.forEach((k, count) -> entityManager.persist(new ApplicationRollup(
+                k.getUserId(), k.getGranularity(), k.getBucket(), k.getStatus(), k.getChannel(), count)));
+        log.info("已重建用户 {} 的趋势汇总: {} 行", userId, counts.size());
+    }
+
+    private void adjustBucket(Long userId, Granularity granularity, LocalDate bucket,
+                              String status, String channel, long delta) {
+        if (rollupRepository.adjust(userId, granularity, bucket, status, channel, delta) == 0) {
+            // 与 StatisticsService.adjust 相同: 先插入空行，并发首次写入的主键冲突只使该条语句失败
+            try {
+                jdbcTemplate.update(INSERT_EMPTY, userId, granularity.name(), Date.valueOf(bucket), status, channel);
+            } catch (DuplicateKeyException ignored) {
+            }
+            rollupRepository.adjust(userId, granularity, bucket, status, channel, delta);
+        }
+    }
+
+    private static Map<String, Object> newBucket(LocalDate bucket, Granularity granularity) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("period", granularity == Granularity.MONTH ? bucket.format(MONTH_FORMATTER) : bucket.toString());
+        map.put("total", 0L);
+        map.put("byStatus", new LinkedHashMap<String, Long>());
+        map.put("byChannel", new LinkedHashMap<String, Long>());
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void merge(Map<String, Object> bucket, String field, String key, long count) {
+        ((Map<String, Long>) bucket.get(field)).merge(key, count, Long::sum);
+    }
+
+    private static String key(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,56 @@
+package com.jobtracker.service;
+
+import com.jobtracker.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 用户数据修订号 - 用户的投递记录每次变更后修订号递增，用作列表、详情和统计的 ETag
+ *
+ * 修订号只在本进程内维护 (与全文索引一样假定单实例部署)，ETag 中带有进程启动时生成的 epoch，
+ * 重启后旧 ETag 全部失效。修订号取自全局递增计数，未记录的用户使用下限值 floor:
+ * 记录数达到上限时先把 floor 提升到新的计数值再清空，保证同一用户的修订号只增不减，
+ * 数据变化后 ETag 一定不同。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@Component
+public class UserRevisions {
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLong counter = new AtomicLong();
+    private final Map<Long, Long> revisions = new ConcurrentHashMap<>();
+    private volatile long floor;
+
+    @Value("${etag.max-tracked-users:100000}")
+    private int maxTrackedUsers;
+
+    /**
+     * 当前修订号对应的弱 ETag
+     */
+    public String etag(Long userId) {
+        Long revision = revisions.get(userId);
+        return "W/\"" + epoch + "-" + (revision != null ? revision : floor) + "\"";
+    }
+
+    /**
+     * 标记用户数据已变更，在事务提交后生效: 提交前读到旧修订号的请求只会拿到旧数据
+     */
+    public void bump(Long userId) {
+        TransactionHooks.afterCommit(() -> advance(userId));
+    }
+
+    private synchronized void advance(Long userId) {
+        if (revisions.size() >= maxTrackedUsers) {
+            // 先提升下限再清空，被清除的用户读到的值大于其原修订号
+            floor = counter.incrementAndGet();
+            revisions.clear();
+        }
+        revisions.put(userId, counter.incrementAndGet());
+    }
+}
@@ -0,0 +1,144 @@
+package com.jobtracker.storage;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * 内容寻址文件存储 - 文件以内容的 SHA-256 命名，相同内容只保存一份
+ *
+ * 上传内容边写入暂存文件边计算摘要，之后以原子重命名放到 {root}/{前两位}/{摘要}。
+ * 文件的引用计数由调用方在数据库中维护; 放置和删除同一摘要的文件时持有同一把锁，
+ * 删除前由调用方在锁内确认已没有引用。锁内有文件和数据库 I/O，使用 ReentrantLock
+ * 而不是 synchronized，虚拟线程在锁内阻塞时不会占住载体线程。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@Component
+@Slf4j
+public class BlobStore {
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int LOCK_STRIPES = 64;
+
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    @Value("${storage.blob-dir:uploads/blobs}")
+    private String blobDir;
+
+    private Path root;
+    private Path staging;
+
+    /**
+     * 暂存的上传内容: 临时文件及其摘要和大小
+     */
+    public record StagedBlob(Path file, String sha256, long size) {}
+
+    @PostConstruct
+    void init() throws IOException {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        root = Paths.get(blobDir).toAbsolutePath().normalize();
+        // 暂存目录与存储目录在同一文件系统，保证放置时可以原子重命名
+        staging = Files.createDirectories(root.resolve("tmp"));
+    }
+
+    /**
+     * 把输入流写入暂存文件并同时计算 SHA-256，只读一遍数据
+     */
+    public StagedBlob stage(InputStream in) throws IOException {
+        Path file = Files.createTempFile(staging, "upload-", ".part");
+        MessageDigest digest = sha256();
+        long size = 0;
+        try (InputStream source = in; OutputStream out = Files.newOutputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int n;
+            while ((n = source.read(buffer)) != -1) {
+                digest.update(buffer, 0, n);
+                out.write(buffer, 0, n);
+                size += n;
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new StagedBlob(file, HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    /**
+     * 把暂存文件放到内容地址。已存在相同内容时重命名会直接替换，磁盘上始终只有一份
+     */
+    public void place(StagedBlob staged) throws IOException {
+        Path target = path(staged.sha256());
+        ReentrantLock lock = lock(staged.sha256());
+        lock.lock();
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(staged.file(), target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 删除文件; unreferenced 在锁内执行，返回 false 表示仍有引用 (例如并发的重新上传)，此时保留文件
+     */
+    public void delete(String sha256, BooleanSupplier unreferenced) {
+        ReentrantLock lock = lock(sha256);
+        lock.lock();
+        try {
+            if (!unreferenced.getAsBoolean()) {
+                return;
+            }
+            Files.deleteIfExists(path(sha256));
+        } catch (IOException e) {
+            log.warn("删除文件 {} 失败: {}", sha256, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 丢弃未放置的暂存文件
+     */
+    public void discard(StagedBlob staged) {
+        try {
+            Files.deleteIfExists(staged.file());
+        } catch (IOException e) {
+            log.warn("删除暂存文件 {} 失败: {}", staged.file(), e.getMessage());
+        }
+    }
+
+    public Path path(String sha256) {
+        if (sha256 == null || !SHA256_HEX.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("Invalid content hash");
+        }
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256);
+    }
+
+    private ReentrantLock lock(String sha256) {
+        return locks[Math.floorMod(sha256.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
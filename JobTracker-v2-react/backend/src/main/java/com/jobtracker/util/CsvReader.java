@@ -0,0 +1,103 @@
+package com.jobtracker.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 流式 CSV 读取器 (RFC 4180) - 逐条读取记录，支持引号内的逗号、换行和转义双引号
+ *
+ * 只缓存当前记录，内存占用与文件大小无关; 开头的 UTF-8 BOM 会被跳过。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+public class CsvReader implements Closeable {
+    private static final int MAX_FIELD_LENGTH = 1_000_000;
+
+    private final BufferedReader reader;
+    private boolean started;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader br ? br : new BufferedReader(reader);
+    }
+
+    /**
+     * 读取下一条记录，文件结束时返回 null
+     */
+    public String[] readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+        int c;
+        while ((c = read()) != -1) {
+            any = true;
+            char ch = (char) c;
+            if (quoted) {
+                if (ch != '"') {
+                    append(field, ch);
+                    continue;
+                }
+                // 引号内连续两个双引号表示一个双引号字符
+                reader.mark(1);
+                int next = reader.read();
+                if (next == '"') {
+                    append(field, '"');
+                } else {
+                    quoted = false;
+                    if (next != -1) {
+                        reader.reset();
+                    }
+                }
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\r' || ch == '\n') {
+                if (ch == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                fields.add(field.toString());
+                return fields.toArray(new String[0]);
+            } else {
+                append(field, ch);
+            }
+        }
+        if (!any) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    private int read() throws IOException {
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+
+    private static void append(StringBuilder field, char ch) throws IOException {
+        if (field.length() >= MAX_FIELD_LENGTH) {
+            throw new IOException("CSV field exceeds " + MAX_FIELD_LENGTH + " characters");
+        }
+        field.append(ch);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,91 @@
+package com.jobtracker.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 有界过期缓存 - 每个条目带有独立的过期时间，读取时惰性淘汰
+ *
+ * 容量满时先清理已过期条目，仍然超限则淘汰部分旧条目，保证内存有上界。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+public class ExpiringCache<K, V> {
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public ExpiringCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * @param expiresAt 过期时间点 (epoch 毫秒)
+     */
+    public void put(K key, V value, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            makeRoom();
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 清理所有已过期条目，返回清理数量
+     */
+    public int evictExpired() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        for (Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator(); it.hasNext(); ) {
+            if (it.next().getValue().expiresAt() <= now) {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private void makeRoom() {
+        if (evictExpired() > 0 && entries.size() < maxSize) {
+            return;
+        }
+        // 仍然超限: 淘汰约 10% 的条目，避免每次 put 都全表扫描
+        int target = maxSize - Math.max(1, maxSize / 10);
+        for (Iterator<K> it = entries.keySet().iterator(); it.hasNext() && entries.size() > target; ) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {}
+}
@@ -0,0 +1,75 @@
+package com.jobtracker.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 令牌桶限流器 (GCRA 算法) - 每个键只保存一个"理论到达时间"，通过 CAS 更新，无锁
+ *
+ * 以 permitsPerMinute 的速率补充，最多允许 burst 个请求连续到达。
+ * 键的数量达到上限时清理已完全恢复的桶 (与不存在等价)，内存有上界。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+public class RateLimiter {
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean cleaning = new AtomicBoolean();
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final int maxKeys;
+
+    public RateLimiter(int permitsPerMinute, int burst, int maxKeys) {
+        if (permitsPerMinute <= 0 || burst <= 0 || maxKeys <= 0) {
+            throw new IllegalArgumentException("rate limit settings must be positive");
+        }
+        this.intervalNanos = 60_000_000_000L / permitsPerMinute;
+        this.toleranceNanos = intervalNanos * burst;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 尝试获取一个许可; 成功返回 0，否则返回需要等待的纳秒数
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            if (buckets.size() >= maxKeys) {
+                cleanup(now);
+            }
+            tat = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - now - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private void cleanup(long now) {
+        if (!cleaning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(tat -> tat.get() - now <= 0);
+            if (buckets.size() >= maxKeys) {
+                // 仍然超限时整体清空: 最坏情况是被清除的键提前恢复一次突发额度
+                buckets.clear();
+            }
+        } finally {
+            cleaning.set(false);
+        }
+    }
+}
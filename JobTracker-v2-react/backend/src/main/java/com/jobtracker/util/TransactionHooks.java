@@ -0,0 +1,30 @@
+package com.jobtracker.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 事务回调工具 - 内存结构只在事务提交成功后更新，回滚时不产生脏数据
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+public final class TransactionHooks {
+    private TransactionHooks() {}
+
+    /**
+     * 当前存在事务时在提交后执行，否则立即执行
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
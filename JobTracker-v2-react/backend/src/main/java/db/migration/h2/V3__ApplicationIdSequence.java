@@ -0,0 +1,33 @@
+package db.migration.h2;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * 投递记录主键改为序列分配 (allocationSize = 50)，以支持批量 INSERT
+ *
+ * H2 的 CREATE SEQUENCE 只接受常量起始值，因此先读取现有最大ID再建序列，
+ * 起始值越过最大ID至少一个分配段。
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+public class V3__ApplicationIdSequence extends BaseJavaMigration {
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            long maxId;
+            try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM applications")) {
+                rs.next();
+                maxId = rs.getLong(1);
+            }
+            statement.execute("CREATE SEQUENCE applications_seq START WITH " + (maxId + ALLOCATION_SIZE + 1)
+                    + " INCREMENT BY " + ALLOCATION_SIZE);
+        }
+    }
+}
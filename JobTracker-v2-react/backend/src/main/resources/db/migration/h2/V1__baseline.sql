@@ -0,0 +1,78 @@
+-- 基线结构: 与此前 ddl-auto 生成的表结构一致，已有数据库以此版本为基线
+
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    username CHARACTER VARYING(50) NOT NULL,
+    email CHARACTER VARYING(100) NOT NULL,
+    password CHARACTER VARYING(255) NOT NULL,
+    real_name CHARACTER VARYING(50),
+    phone CHARACTER VARYING(20),
+    target_position CHARACTER VARYING(100),
+    graduation_year INTEGER,
+    major CHARACTER VARYING(100),
+    school CHARACTER VARYING(100),
+    avatar CHARACTER VARYING(500),
+    created_at TIMESTAMP(6),
+    last_login TIMESTAMP(6),
+    is_active BOOLEAN,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE applications (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id BIGINT NOT NULL,
+    company_name CHARACTER VARYING(100) NOT NULL,
+    position_name CHARACTER VARYING(100) NOT NULL,
+    apply_date DATE NOT NULL,
+    status CHARACTER VARYING(30),
+    notes CHARACTER VARYING(1000000),
+    salary_min INTEGER,
+    salary_max INTEGER,
+    work_location CHARACTER VARYING(100),
+    apply_channel CHARACTER VARYING(50),
+    referrer CHARACTER VARYING(100),
+    interview_time TIMESTAMP(6),
+    company_website CHARACTER VARYING(500),
+    hr_contact CHARACTER VARYING(100),
+    hr_phone CHARACTER VARYING(20),
+    priority CHARACTER VARYING(255) CHECK (priority IN ('HIGH', 'MEDIUM', 'LOW')),
+    is_starred BOOLEAN,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_applications_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE resumes (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id BIGINT NOT NULL,
+    name CHARACTER VARYING(100) NOT NULL,
+    description CHARACTER VARYING(500),
+    file_path CHARACTER VARYING(255) NOT NULL,
+    file_type CHARACTER VARYING(50),
+    file_size BIGINT,
+    is_default BOOLEAN,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_resumes_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE templates (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id BIGINT NOT NULL,
+    name CHARACTER VARYING(100) NOT NULL,
+    company_name CHARACTER VARYING(100),
+    position_name CHARACTER VARYING(100),
+    work_location CHARACTER VARYING(100),
+    apply_channel CHARACTER VARYING(50),
+    salary_min INTEGER,
+    salary_max INTEGER,
+    company_website CHARACTER VARYING(500),
+    notes CHARACTER VARYING(1000000),
+    created_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_templates_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
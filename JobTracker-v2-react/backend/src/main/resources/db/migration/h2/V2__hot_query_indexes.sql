@@ -0,0 +1,14 @@
+-- 热点查询的复合索引
+-- findByUserIdOrderByCreatedAtDesc / 游标分页 / 导出
+CREATE INDEX idx_applications_user_created ON applications (user_id, created_at, id);
+-- findByUserIdAndStatusOrderByCreatedAtDesc / 按状态游标分页
+CREATE INDEX idx_applications_user_status_created ON applications (user_id, status, created_at, id);
+-- 星标列表
+CREATE INDEX idx_applications_user_starred ON applications (user_id, is_starred, created_at);
+
+CREATE INDEX idx_resumes_user_created ON resumes (user_id, created_at);
+CREATE INDEX idx_templates_user_created ON templates (user_id, created_at);
+
+-- 旧版 ddl-auto 在 H2 上把 TEXT 建成 CLOB，统一为变长字符串以通过结构校验
+ALTER TABLE applications ALTER COLUMN notes SET DATA TYPE CHARACTER VARYING(1000000);
+ALTER TABLE templates ALTER COLUMN notes SET DATA TYPE CHARACTER VARYING(1000000);
@@ -0,0 +1,13 @@
+-- 简历文件按内容去重存储: resume_blobs 记录每份内容的引用计数
+CREATE TABLE resume_blobs (
+    sha256 CHARACTER VARYING(64) NOT NULL,
+    file_size BIGINT NOT NULL,
+    ref_count BIGINT NOT NULL,
+    created_at TIMESTAMP(6),
+    PRIMARY KEY (sha256)
+);
+
+-- 新上传的简历由 content_hash 定位文件，file_path 只保留给旧数据
+ALTER TABLE resumes ADD COLUMN content_hash CHARACTER VARYING(64);
+ALTER TABLE resumes ADD COLUMN file_name CHARACTER VARYING(255);
+ALTER TABLE resumes ALTER COLUMN file_path SET NULL;
@@ -0,0 +1,7 @@
+-- 为统计计数上线前已有的投递记录建立计数 (全部重新统计，状态为空记为空串)
+DELETE FROM application_counters;
+
+INSERT INTO application_counters (user_id, status, total, starred)
+SELECT user_id, COALESCE(status, ''), COUNT(*), SUM(CASE WHEN is_starred THEN 1 ELSE 0 END)
+FROM applications
+GROUP BY user_id, COALESCE(status, '');
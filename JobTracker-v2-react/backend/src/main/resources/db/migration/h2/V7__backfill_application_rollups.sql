@@ -0,0 +1,14 @@
+-- 为趋势汇总上线前已有的投递记录建立日/月汇总 (全部重新汇总，状态、渠道为空记为空串，月汇总以当月 1 日为桶)
+DELETE FROM application_rollups;
+
+INSERT INTO application_rollups (user_id, granularity, bucket, status, channel, count)
+SELECT user_id, 'DAY', apply_date, COALESCE(status, ''), COALESCE(apply_channel, ''), COUNT(*)
+FROM applications
+GROUP BY user_id, apply_date, COALESCE(status, ''), COALESCE(apply_channel, '');
+
+INSERT INTO application_rollups (user_id, granularity, bucket, status, channel, count)
+SELECT user_id, 'MONTH', bucket, status, channel, COUNT(*)
+FROM (SELECT user_id, CAST(DATE_TRUNC('MONTH', apply_date) AS DATE) AS bucket,
+             COALESCE(status, '') AS status, COALESCE(apply_channel, '') AS channel
+      FROM applications) m
+GROUP BY user_id, bucket, status, channel;
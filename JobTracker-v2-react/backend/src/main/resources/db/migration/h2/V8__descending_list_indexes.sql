@@ -0,0 +1,7 @@
+-- 列表、游标分页和导出都按 (created_at, id) 倒序读取，排序列前缀为索引的前导列 (见 ApplicationRepository):
+-- 索引各列按相同方向建立，使查询按索引顺序直接取前 N 条，而不是取出该用户全部记录再排序。
+-- MySQL 可反向扫描升序索引，无需此迁移
+DROP INDEX idx_applications_user_created;
+CREATE INDEX idx_applications_user_created ON applications (user_id DESC, created_at DESC, id DESC);
+DROP INDEX idx_applications_user_status_created;
+CREATE INDEX idx_applications_user_status_created ON applications (user_id DESC, status DESC, created_at DESC, id DESC);
@@ -0,0 +1,23 @@
+-- 基线之后新增: 面试提醒发送记录、提醒查询索引、统计计数表和趋势汇总表
+
+ALTER TABLE applications ADD COLUMN reminder_sent_for DATETIME(6);
+
+CREATE INDEX idx_applications_interview_time ON applications (interview_time);
+
+CREATE TABLE application_counters (
+    user_id BIGINT NOT NULL,
+    status VARCHAR(30) NOT NULL,
+    total BIGINT NOT NULL,
+    starred BIGINT NOT NULL,
+    PRIMARY KEY (user_id, status)
+) ENGINE = InnoDB;
+
+CREATE TABLE application_rollups (
+    user_id BIGINT NOT NULL,
+    granularity VARCHAR(10) NOT NULL,
+    bucket DATE NOT NULL,
+    status VARCHAR(30) NOT NULL,
+    channel VARCHAR(50) NOT NULL,
+    count BIGINT NOT NULL,
+    PRIMARY KEY (user_id, granularity, bucket, status, channel)
+) ENGINE = InnoDB;
@@ -0,0 +1,78 @@
+-- 基线结构: 与此前 ddl-auto 生成的表结构一致，已有数据库以此版本为基线
+
+CREATE TABLE users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    username VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    real_name VARCHAR(50),
+    phone VARCHAR(20),
+    target_position VARCHAR(100),
+    graduation_year INTEGER,
+    major VARCHAR(100),
+    school VARCHAR(100),
+    avatar VARCHAR(500),
+    created_at DATETIME(6),
+    last_login DATETIME(6),
+    is_active BIT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE applications (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    company_name VARCHAR(100) NOT NULL,
+    position_name VARCHAR(100) NOT NULL,
+    apply_date DATE NOT NULL,
+    status VARCHAR(30),
+    notes TEXT,
+    salary_min INTEGER,
+    salary_max INTEGER,
+    work_location VARCHAR(100),
+    apply_channel VARCHAR(50),
+    referrer VARCHAR(100),
+    interview_time DATETIME(6),
+    company_website VARCHAR(500),
+    hr_contact VARCHAR(100),
+    hr_phone VARCHAR(20),
+    priority ENUM('HIGH', 'MEDIUM', 'LOW'),
+    is_starred BIT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_applications_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE resumes (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    file_path VARCHAR(255) NOT NULL,
+    file_type VARCHAR(50),
+    file_size BIGINT,
+    is_default BIT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_resumes_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE templates (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    company_name VARCHAR(100),
+    position_name VARCHAR(100),
+    work_location VARCHAR(100),
+    apply_channel VARCHAR(50),
+    salary_min INTEGER,
+    salary_max INTEGER,
+    company_website VARCHAR(500),
+    notes TEXT,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_templates_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
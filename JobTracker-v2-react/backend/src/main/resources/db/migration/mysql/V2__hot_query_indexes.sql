@@ -0,0 +1,10 @@
+-- 热点查询的复合索引 (InnoDB 二级索引隐含主键 id，可直接用于游标分页)
+-- findByUserIdOrderByCreatedAtDesc / 游标分页 / 导出
+CREATE INDEX idx_applications_user_created ON applications (user_id, created_at);
+-- findByUserIdAndStatusOrderByCreatedAtDesc / 按状态游标分页
+CREATE INDEX idx_applications_user_status_created ON applications (user_id, status, created_at);
+-- 星标列表
+CREATE INDEX idx_applications_user_starred ON applications (user_id, is_starred, created_at);
+
+CREATE INDEX idx_resumes_user_created ON resumes (user_id, created_at);
+CREATE INDEX idx_templates_user_created ON templates (user_id, created_at);
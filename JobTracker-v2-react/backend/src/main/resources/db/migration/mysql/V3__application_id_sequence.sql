@@ -0,0 +1,8 @@
+-- 投递记录主键改为序列分配 (allocationSize = 50)，以支持批量 INSERT
+-- MySQL 无序列，Hibernate 使用单行表模拟; 起始值越过现有最大ID至少一个分配段
+CREATE TABLE applications_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO applications_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM applications;
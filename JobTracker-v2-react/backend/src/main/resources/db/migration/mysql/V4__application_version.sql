@@ -0,0 +1,2 @@
+-- 投递记录乐观锁版本号
+ALTER TABLE applications ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,166 @@
+package com.jobtracker.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 热点查询的执行计划校验: 在 Flyway 迁移后的内存 H2 上执行 ApplicationRepository 的方法，
+ * 截获 Hibernate 实际生成的 SQL，以相同参数 EXPLAIN，确认使用对应的复合索引并按索引顺序读取
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.jobtracker.repository.ApplicationQueryPlanTest$CapturedSql")
+class ApplicationQueryPlanTest {
+    private static final long USER_ID = 1;
+    private static final int USERS = 20;
+    private static final int ROWS_PER_USER = 200;
+    private static final String[] STATUSES = {"已投递", "笔试", "一面", "二面", "Offer", "已拒绝"};
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final LocalDateTime CURSOR = BASE.plusHours(100);
+    // 按索引顺序读取，无需额外排序
+    private static final String SORTED = "/* index sorted */";
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 记录当前线程最近执行的 SQL
+     */
+    public static class CapturedSql implements StatementInspector {
+        private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.get().add(sql);
+            return sql;
+        }
+
+        static String first() {
+            List<String> statements = STATEMENTS.get();
+            assertThat(statements).isNotEmpty();
+            return statements.get(0);
+        }
+
+        static void clear() {
+            STATEMENTS.get().clear();
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        // ANALYZE 会提交事务，数据只需写入一次
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class) == 0) {
+            insertRows();
+        }
+        CapturedSql.clear();
+    }
+
+    private void insertRows() {
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> apps = new ArrayList<>();
+        long id = 1;
+        for (long user = 1; user <= USERS; user++) {
+            users.add(new Object[]{user, "user" + user, "user" + user + "@example.com", "x"});
+            for (int i = 0; i < ROWS_PER_USER; i++) {
+                LocalDateTime created = BASE.plusHours(i);
+                apps.add(new Object[]{id++, user, "公司" + i, "职位", created.toLocalDate(),
+                        STATUSES[i % STATUSES.length], Timestamp.valueOf(created.plusDays(i % 30)),
+                        Timestamp.valueOf(created)});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, username, email, password) VALUES (?, ?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO applications (id, user_id, company_name, position_name, apply_date, " +
+                "status, interview_time, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", apps);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void listUsesUserCreatedIndex() {
+        applicationRepository.findSummaries(USER_ID, page());
+
+        assertThat(explain(CapturedSql.first(), USER_ID, 0, 20))
+                .contains("IDX_APPLICATIONS_USER_CREATED").contains(SORTED);
+    }
+
+    @Test
+    void listByStatusUsesUserStatusIndex() {
+        applicationRepository.findSummariesByStatus(USER_ID, "一面", page());
+
+        assertThat(explain(CapturedSql.first(), USER_ID, "一面", 0, 20))
+                .contains("IDX_APPLICATIONS_USER_STATUS_CREATED").contains(SORTED);
+    }
+
+    @Test
+    void cursorFirstPageUsesUserCreatedIndex() {
+        applicationRepository.findFirstPage(USER_ID, Limit.of(21));
+
+        assertThat(explain(CapturedSql.first(), USER_ID, 0, 21))
+                .contains("IDX_APPLICATIONS_USER_CREATED").contains(SORTED);
+    }
+
+    @Test
+    void cursorNextPageUsesUserCreatedIndex() {
+        applicationRepository.findPageAfter(USER_ID, CURSOR, 50L, Limit.of(21));
+
+        Timestamp cursor = Timestamp.valueOf(CURSOR);
+        assertThat(explain(CapturedSql.first(), USER_ID, cursor, cursor, 50L, 0, 21))
+                .contains("IDX_APPLICATIONS_USER_CREATED").contains(SORTED);
+    }
+
+    @Test
+    void cursorNextPageByStatusUsesUserStatusIndex() {
+        applicationRepository.findPageAfterByStatus(USER_ID, "一面", CURSOR, 50L, Limit.of(21));
+
+        Timestamp cursor = Timestamp.valueOf(CURSOR);
+        assertThat(explain(CapturedSql.first(), USER_ID, "一面", cursor, cursor, 50L, 0, 21))
+                .contains("IDX_APPLICATIONS_USER_STATUS_CREATED").contains(SORTED);
+    }
+
+    @Test
+    void exportUsesUserCreatedIndex() {
+        try (Stream<?> apps = applicationRepository.streamForExport(USER_ID)) {
+            apps.findFirst();
+        }
+
+        assertThat(explain(CapturedSql.first(), USER_ID))
+                .contains("IDX_APPLICATIONS_USER_CREATED").contains(SORTED);
+    }
+
+    @Test
+    void reminderCandidatesUseInterviewTimeIndex() {
+        LocalDateTime from = BASE.plusDays(3);
+        LocalDateTime to = from.plusHours(2);
+        applicationRepository.findReminderCandidates(from, to);
+
+        assertThat(explain(CapturedSql.first(), Timestamp.valueOf(from), Timestamp.valueOf(to)))
+                .contains("IDX_APPLICATIONS_INTERVIEW_TIME");
+    }
+
+    private static PageRequest page() {
+        return PageRequest.of(0, 20);
+    }
+
+    private String explain(String sql, Object... args) {
+        assertThat(sql.chars().filter(c -> c == '?').count()).as(sql).isEqualTo(args.length);
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+}
@@ -0,0 +1,108 @@
+package com.jobtracker.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 邮件投递吞吐: 以固定连接耗时的 SMTP 替身代替真实服务器，确认批量复用连接且全部送达
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+class MailDispatcherTest {
+    private static final int MAILS = 200;
+    private static final int BATCH_SIZE = 20;
+    // 替身每次建立连接并发送的耗时
+    private static final long CONNECTION_MILLIS = 5;
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger delivered = new AtomicInteger();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private MailDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl smtp = new JavaMailSenderImpl() {
+            @Override
+            public void send(MimeMessage... mimeMessages) {
+                connections.incrementAndGet();
+                try {
+                    Thread.sleep(CONNECTION_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                delivered.addAndGet(mimeMessages.length);
+            }
+        };
+        dispatcher = new MailDispatcher(smtp);
+        ReflectionTestUtils.setField(dispatcher, "workers", 2);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(dispatcher, "maxInFlight", MAILS);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 4);
+        ReflectionTestUtils.setField(dispatcher, "retryBackoff", 10L);
+        dispatcher.bindTo(registry);
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Test
+    void deliversAllMailsInBatches() throws Exception {
+        CountDownLatch sent = new CountDownLatch(MAILS);
+        long start = System.nanoTime();
+        for (int i = 0; i < MAILS; i++) {
+            assertThat(dispatcher.submit(message(i), sent::countDown)).isTrue();
+        }
+
+        assertThat(sent.await(10, TimeUnit.SECONDS)).isTrue();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(delivered.get()).isEqualTo(MAILS);
+        // 逐封发送需要 MAILS 次连接，批量发送应远少于此
+        assertThat(connections.get()).isLessThan(MAILS / 2);
+        assertThat(elapsedMillis).isLessThan(MAILS * CONNECTION_MILLIS);
+        assertThat(registry.get("mail.sent").functionCounter().count()).isEqualTo(MAILS);
+        assertThat(registry.get("mail.batch.send").timer().count()).isEqualTo(connections.get());
+        assertThat(dispatcher.getInFlight()).isZero();
+    }
+
+    @Test
+    void rejectsWhenInFlightLimitReached() {
+        MailDispatcher full = new MailDispatcher(new JavaMailSenderImpl());
+        ReflectionTestUtils.setField(full, "workers", 0);
+        ReflectionTestUtils.setField(full, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(full, "maxInFlight", 2);
+        full.start();
+        try {
+            assertThat(full.submit(message(0), null)).isTrue();
+            assertThat(full.submit(message(1), null)).isTrue();
+            assertThat(full.submit(message(2), null)).isFalse();
+        } finally {
+            full.stop();
+        }
+    }
+
+    private static SimpleMailMessage message(int i) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("noreply@example.com");
+        message.setTo("user" + i + "@example.com");
+        message.setSubject("面试提醒 " + i);
+        message.setText("测试邮件 " + i);
+        return message;
+    }
+}
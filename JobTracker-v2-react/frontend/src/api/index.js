@@ -30,9 +30,22 @@ export const authApi = {
 
 export const applicationApi = {
   getAll: (params) => api.get('/applications', { params }),
+  // 按游标逐页读取全部记录 (单页上限 100 条)
+  getAllPages: async (params) => {
+    const content = []
+    let cursor = ''
+    do {
+      const res = await api.get('/applications', { params: { ...params, size: 100, cursor } })
+      content.push(...res.data.content)
+      cursor = res.data.nextCursor
+    } while (cursor)
+    return { content }
+  },
   getById: (id) => api.get(`/applications/${id}`),
   create: (data) => api.post('/applications', data),
   update: (id, data) => api.put(`/applications/${id}`, data),
+  patch: (id, data) => api.patch(`/applications/${id}`, data),
+  updateStatus: (id, status) => api.put(`/applications/${id}/status`, { status }),
   delete: (id) => api.delete(`/applications/${id}`),
   toggleStar: (id) => api.post(`/applications/${id}/toggle-star`),
   getStats: () => api.get('/applications/stats'),
@@ -43,6 +56,7 @@ export const resumeApi = {
   upload: (formData) => api.post('/resumes', formData, { headers: { 'Content-Type': 'multipart/form-data' } }),
   delete: (id) => api.delete(`/resumes/${id}`),
   setDefault: (id) => api.post(`/resumes/${id}/set-default`),
+  download: (id) => api.get(`/resumes/${id}/file`, { responseType: 'blob' }),
 }
 
 export const templateApi = {
@@ -20,7 +20,7 @@ export default function Calendar() {
 
   const { data } = useQuery({
     queryKey: ['applications', 'all'],
-    queryFn: () => applicationApi.getAll({ size: 1000 }).then(res => res.data)
+    queryFn: () => applicationApi.getAllPages()
   })
 
   const applications = data?.content || []
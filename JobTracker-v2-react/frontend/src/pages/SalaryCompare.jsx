@@ -14,7 +14,7 @@ export default function SalaryCompare() {
 
   const { data } = useQuery({
     queryKey: ['applications', 'all'],
-    queryFn: () => applicationApi.getAll({ size: 1000 }).then(res => res.data)
+    queryFn: () => applicationApi.getAllPages()
   })
 
   const applications = data?.content || []
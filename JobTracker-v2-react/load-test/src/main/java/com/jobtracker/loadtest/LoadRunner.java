@@ -0,0 +1,316 @@
+package com.jobtracker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * HTTP 负载生成 - 按权重混合调用登录、列表、搜索、统计、导出和星标接口，输出各接口的吞吐量和延迟分位数
+ *
+ * 先为 --sessions 个随机用户登录取得令牌，再由 --concurrency 个线程在 --duration 秒内不间断发送请求，
+ * 前 --warmup 秒不计入结果。--login-burst N 在测量期间另开 N 个线程只做登录，用于观察登录洪峰下其他接口的 p99。
+ * 后端默认开启限流，压测时需以 --rate-limit.enabled=false 启动，否则登录和导出会大量返回 429。
+ *
+ * java -cp target/load-test.jar com.jobtracker.loadtest.LoadRunner --concurrency 64 --duration 60
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+public class LoadRunner {
+    private static final String[] KEYWORDS = {"腾讯", "阿里巴巴", "字节跳动", "美团", "华为", "开发", "算法", "产品"};
+    private static final String[] STATUSES = {"已投递", "一面", "Offer", "已拒绝"};
+
+    enum Op {
+        LOGIN("login"), LIST("list"), SEARCH("search"), STATS("stats"), EXPORT("export"),
+        TOGGLE_STAR("toggle-star"), LOGIN_BURST("login-burst");
+
+        final String label;
+
+        Op(String label) {
+            this.label = label;
+        }
+
+        static Op of(String label) {
+            for (Op op : values()) {
+                if (op.label.equals(label)) {
+                    return op;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operation: " + label);
+        }
+    }
+
+    private record Session(String token, long[] applicationIds) {}
+
+    /**
+     * 单个线程的测量结果，结束后合并，测量期间线程之间没有共享写入
+     */
+    private static final class Recorder {
+        final Map<Op, long[]> samples = new EnumMap<>(Op.class);
+        final Map<Op, Integer> counts = new EnumMap<>(Op.class);
+        final Map<Op, Integer> errors = new EnumMap<>(Op.class);
+        final Map<Op, Integer> throttled = new EnumMap<>(Op.class);
+
+        void record(Op op, long nanos, int status) {
+            int n = counts.merge(op, 1, Integer::sum);
+            long[] values = samples.computeIfAbsent(op, k -> new long[1024]);
+            if (n > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+                samples.put(op, values);
+            }
+            values[n - 1] = nanos;
+            if (status == 429) {
+                throttled.merge(op, 1, Integer::sum);
+            } else if (status < 200 || status >= 300) {
+                errors.merge(op, 1, Integer::sum);
+            }
+        }
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String password;
+    private final int users;
+
+    LoadRunner(String baseUrl, String password, int users, int concurrency) {
+        this.baseUrl = baseUrl;
+        this.password = password;
+        this.users = users;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(Math.max(4, concurrency / 4)))
+                .build();
+    }
+
+    public static void main(String[] argv) throws Exception {
+        Args args = new Args(argv);
+        int concurrency = args.getInt("concurrency", 32);
+        LoadRunner runner = new LoadRunner(
+                args.get("base-url", "http://localhost:8081"),
+                args.get("password", "loadtest"),
+                args.getInt("users", 100_000),
+                concurrency);
+        Map<Op, Integer> mix = parseMix(args.get("mix", "list=45,search=15,stats=20,toggle-star=14,login=5,export=1"));
+        runner.run(mix, concurrency, args.getInt("sessions", 200), args.getInt("login-burst", 0),
+                args.getInt("warmup", 10), args.getInt("duration", 60), args.getLong("seed", 7));
+        System.exit(0);
+    }
+
+    void run(Map<Op, Integer> mix, int concurrency, int sessionCount, int loginBurst,
+             int warmupSeconds, int durationSeconds, long seed) throws Exception {
+        List<Session> sessions = openSessions(sessionCount, concurrency, new SplittableRandom(seed));
+        System.out.printf("Opened %d sessions, running %d workers (+%d login burst) for %d s (warmup %d s)%n",
+                sessions.size(), concurrency, loginBurst, durationSeconds, warmupSeconds);
+
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        Op[] table = weightedTable(mix);
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency + loginBurst);
+        List<Future<Recorder>> results = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            SplittableRandom random = new SplittableRandom(seed + i + 1);
+            results.add(workers.submit(() -> work(table, sessions, random, measureFrom, deadline)));
+        }
+        for (int i = 0; i < loginBurst; i++) {
+            SplittableRandom random = new SplittableRandom(seed - i - 1);
+            // 登录洪峰只在测量阶段发出
+            results.add(workers.submit(() -> {
+                sleepUntil(measureFrom);
+                return work(new Op[]{Op.LOGIN_BURST}, sessions, random, measureFrom, deadline);
+            }));
+        }
+
+        List<Recorder> recorders = new ArrayList<>();
+        for (Future<Recorder> result : results) {
+            recorders.add(result.get());
+        }
+        workers.shutdown();
+        report(recorders, durationSeconds);
+    }
+
+    private List<Session> openSessions(int count, int concurrency, SplittableRandom random) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(count, concurrency));
+        List<Future<Session>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int user = 1 + random.nextInt(users);
+            futures.add(executor.submit(() -> {
+                String token = login(user).token();
+                HttpResponse<String> response = client.send(get("/api/applications?page=0&size=50", token),
+                        HttpResponse.BodyHandlers.ofString());
+                JsonNode content = objectMapper.readTree(response.body()).path("content");
+                long[] ids = new long[content.size()];
+                for (int j = 0; j < ids.length; j++) {
+                    ids[j] = content.get(j).path("id").asLong();
+                }
+                return new Session(token, ids);
+            }));
+        }
+        List<Session> sessions = new ArrayList<>();
+        for (Future<Session> future : futures) {
+            sessions.add(future.get());
+        }
+        executor.shutdown();
+        return sessions;
+    }
+
+    private Recorder work(Op[] table, List<Session> sessions, SplittableRandom random,
+                          long measureFrom, long deadline) {
+        Recorder recorder = new Recorder();
+        long now;
+        while ((now = System.nanoTime()) < deadline) {
+            Op op = table[random.nextInt(table.length)];
+            Session session = sessions.get(random.nextInt(sessions.size()));
+            int status;
+            try {
+                status = execute(op, session, random);
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (now >= measureFrom) {
+                recorder.record(op, System.nanoTime() - now, status);
+            }
+        }
+        return recorder;
+    }
+
+    private int execute(Op op, Session session, SplittableRandom random) throws IOException, InterruptedException {
+        HttpRequest request = switch (op) {
+            case LOGIN, LOGIN_BURST -> loginRequest(1 + random.nextInt(users));
+            case LIST -> get(random.nextInt(5) == 0
+                    ? "/api/applications?page=0&size=20&status=" + encode(STATUSES[random.nextInt(STATUSES.length)])
+                    : "/api/applications?page=0&size=20", session.token());
+            case SEARCH -> get("/api/applications?page=0&size=20&keyword="
+                    + encode(KEYWORDS[random.nextInt(KEYWORDS.length)]), session.token());
+            case STATS -> get("/api/applications/stats", session.token());
+            case EXPORT -> get("/api/export/excel", session.token());
+            case TOGGLE_STAR -> {
+                long[] ids = session.applicationIds();
+                if (ids.length == 0) {
+                    yield get("/api/applications/stats", session.token());
+                }
+                yield HttpRequest.newBuilder(URI.create(baseUrl + "/api/applications/"
+                                + ids[random.nextInt(ids.length)] + "/toggle-star"))
+                        .header("Authorization", "Bearer " + session.token())
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build();
+            }
+        };
+        // 完整读取响应体后才计时结束
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private Session login(int user) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(loginRequest(user), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for loaduser" + user + ": HTTP " + response.statusCode()
+                    + " " + response.body());
+        }
+        return new Session(objectMapper.readTree(response.body()).path("token").asText(), new long[0]);
+    }
+
+    private HttpRequest loginRequest(int user) {
+        String body = "{\"username\":\"loaduser" + user + "\",\"password\":\"" + password + "\"}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private static void report(List<Recorder> recorders, int durationSeconds) {
+        System.out.printf("%n%-12s %9s %7s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "429", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        long totalRequests = 0;
+        for (Op op : Op.values()) {
+            int n = 0;
+            int errors = 0;
+            int throttled = 0;
+            for (Recorder r : recorders) {
+                n += r.counts.getOrDefault(op, 0);
+                errors += r.errors.getOrDefault(op, 0);
+                throttled += r.throttled.getOrDefault(op, 0);
+            }
+            if (n == 0) {
+                continue;
+            }
+            long[] all = new long[n];
+            int offset = 0;
+            for (Recorder r : recorders) {
+                int count = r.counts.getOrDefault(op, 0);
+                if (count > 0) {
+                    System.arraycopy(r.samples.get(op), 0, all, offset, count);
+                    offset += count;
+                }
+            }
+            Arrays.sort(all);
+            totalRequests += n;
+            System.out.printf("%-12s %9d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", op.label, n, errors, throttled,
+                    (double) n / durationSeconds, percentile(all, 0.50), percentile(all, 0.95),
+                    percentile(all, 0.99), all[n - 1] / 1_000_000.0);
+        }
+        System.out.printf("%-12s %9d %25.1f%n", "total", totalRequests, (double) totalRequests / durationSeconds);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static Map<Op, Integer> parseMix(String spec) {
+        Map<Op, Integer> mix = new EnumMap<>(Op.class);
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split("=");
+            mix.put(Op.of(kv[0].trim()), Integer.parseInt(kv[1].trim()));
+        }
+        return mix;
+    }
+
+    /**
+     * 按权重展开的操作表，随机下标即按权重抽样
+     */
+    private static Op[] weightedTable(Map<Op, Integer> mix) {
+        List<Op> table = new ArrayList<>();
+        mix.forEach((op, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                table.add(op);
+            }
+        });
+        if (table.isEmpty()) {
+            throw new IllegalArgumentException("Empty workload mix");
+        }
+        return table.toArray(new Op[0]);
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
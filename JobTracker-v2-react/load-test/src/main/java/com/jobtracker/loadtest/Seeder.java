@@ -0,0 +1,212 @@
+package com.jobtracker.loadtest;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * 合成数据生成 - 向空的 H2 数据库写入指定规模的用户和投递记录
+ *
+ * 表结构由后端的 Flyway 迁移创建，统计计数和趋势汇总在写入后用 SQL 聚合生成，
+ * 与应用增量维护的结果一致。所有用户的密码相同 (--password)，用户名为 loaduser{n}。
+ * 运行前需停止后端 (H2 文件库不能被两个进程同时打开)。
+ *
+ * java -cp target/load-test.jar com.jobtracker.loadtest.Seeder --users 100000 --apps-per-user 100
+ *
+ * @author dts
+ * @version 2.0.0
+ */
+public class Seeder {
+    private static final String[] STATUSES = {"准备中", "已投递", "笔试", "一面", "二面", "三面", "HR面", "Offer", "已拒绝"};
+    private static final int[] STATUS_WEIGHTS = {5, 40, 10, 12, 7, 3, 3, 5, 15};
+    private static final String[] CHANNELS = {"招聘网站", "官网投递", "内推", "校园招聘", "猎头推荐", "其他"};
+    private static final int[] CHANNEL_WEIGHTS = {40, 25, 15, 15, 3, 2};
+    private static final String[] PRIORITIES = {"HIGH", "MEDIUM", "LOW"};
+    private static final int[] PRIORITY_WEIGHTS = {20, 60, 20};
+    private static final String[] COMPANIES = {"腾讯", "阿里巴巴", "字节跳动", "美团", "京东", "百度", "网易", "华为",
+            "小米", "拼多多", "快手", "滴滴", "携程", "蚂蚁集团", "招商银行", "中兴通讯", "大疆", "米哈游"};
+    private static final String[] POSITIONS = {"Java 后端开发工程师", "前端开发工程师", "测试开发工程师", "算法工程师",
+            "数据分析师", "产品经理", "运维开发工程师", "客户端开发工程师"};
+    private static final String[] CITIES = {"北京", "上海", "深圳", "杭州", "广州", "成都", "南宁", "武汉"};
+    private static final String NOTES = "一面问了 JVM 内存模型、MySQL 索引和项目中的缓存设计，二面需要准备系统设计和项目难点。"
+            + "HR 表示两周内给出结果，需要关注邮件。";
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int COMMIT_SIZE = 50_000;
+    private static final int ALLOCATION_SIZE = 50;
+
+    public static void main(String[] argv) throws Exception {
+        Args args = new Args(argv);
+        String url = args.get("db", "jdbc:h2:file:../backend/data/jobtracker");
+        String dbUser = args.get("db-user", "sa");
+        String dbPassword = args.get("db-password", "");
+        int users = args.getInt("users", 100_000);
+        int appsPerUser = args.getInt("apps-per-user", 100);
+        String password = args.get("password", "loadtest");
+        SplittableRandom random = new SplittableRandom(args.getLong("seed", 42));
+
+        Flyway.configure()
+                .dataSource(url, dbUser, dbPassword)
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+
+        long start = System.nanoTime();
+        try (Connection connection = DriverManager.getConnection(url, dbUser, dbPassword)) {
+            connection.setAutoCommit(false);
+            if (count(connection, "SELECT COUNT(*) FROM users") > 0) {
+                throw new IllegalStateException("Database already contains users, seed into an empty database");
+            }
+            // 所有用户共用一个哈希，避免生成阶段花在 BCrypt 上
+            String hash = new BCryptPasswordEncoder().encode(password);
+            seedUsers(connection, users, hash);
+            long applications = seedApplications(connection, users, appsPerUser, random);
+            aggregate(connection);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE users ALTER COLUMN id RESTART WITH " + (users + 1));
+                statement.execute("ALTER SEQUENCE applications_seq RESTART WITH " + (applications + ALLOCATION_SIZE + 1));
+            }
+            connection.commit();
+            System.out.printf("Seeded %d users and %d applications in %d s%n",
+                    users, applications, (System.nanoTime() - start) / 1_000_000_000L);
+        }
+    }
+
+    private static void seedUsers(Connection connection, int users, String hash) throws SQLException {
+        String sql = "INSERT INTO users (id, username, email, password, real_name, created_at, is_active) "
+                + "VALUES (?, ?, ?, ?, ?, ?, TRUE)";
+        Timestamp created = Timestamp.valueOf(LocalDateTime.now().minusYears(2));
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int id = 1; id <= users; id++) {
+                ps.setLong(1, id);
+                ps.setString(2, "loaduser" + id);
+                ps.setString(3, "loaduser" + id + "@example.com");
+                ps.setString(4, hash);
+                ps.setString(5, "压测用户" + id);
+                ps.setTimestamp(6, created);
+                ps.addBatch();
+                if (id % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private static long seedApplications(Connection connection, int users, int appsPerUser,
+                                         SplittableRandom random) throws SQLException {
+        String sql = "INSERT INTO applications (id, user_id, company_name, position_name, apply_date, status, notes, "
+                + "salary_min, salary_max, work_location, apply_channel, referrer, interview_time, reminder_sent_for, "
+                + "company_website, hr_contact, hr_phone, priority, is_starred, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+        LocalDateTime now = LocalDateTime.now();
+        long id = 0;
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (long userId = 1; userId <= users; userId++) {
+                // 每个用户的记录数在均值的 0.2 到 1.8 倍之间
+                int count = Math.max(1, (int) Math.round(appsPerUser * (0.2 + 1.6 * random.nextDouble())));
+                for (int i = 0; i < count; i++) {
+                    bind(ps, ++id, userId, random, now);
+                    ps.addBatch();
+                    if (id % BATCH_SIZE == 0) {
+                        ps.executeBatch();
+                    }
+                    if (id % COMMIT_SIZE == 0) {
+                        connection.commit();
+                    }
+                    if (id % 1_000_000 == 0) {
+                        System.out.printf("  %d applications%n", id);
+                    }
+                }
+            }
+            ps.executeBatch();
+        }
+        connection.commit();
+        return id;
+    }
+
+    private static void bind(PreparedStatement ps, long id, long userId, SplittableRandom random,
+                             LocalDateTime now) throws SQLException {
+        LocalDateTime created = now.minusMinutes(random.nextLong(730L * 24 * 60));
+        LocalDate applyDate = created.toLocalDate().minusDays(random.nextInt(3));
+        String status = pick(STATUSES, STATUS_WEIGHTS, random);
+        int salaryMin = 8 + random.nextInt(30);
+        boolean interviewing = status.endsWith("面") || "笔试".equals(status);
+
+        ps.setLong(1, id);
+        ps.setLong(2, userId);
+        ps.setString(3, COMPANIES[random.nextInt(COMPANIES.length)]);
+        ps.setString(4, POSITIONS[random.nextInt(POSITIONS.length)]);
+        ps.setDate(5, Date.valueOf(applyDate));
+        ps.setString(6, status);
+        ps.setString(7, random.nextInt(10) < 3 ? NOTES.substring(0, 20 + random.nextInt(NOTES.length() - 20)) : null);
+        ps.setInt(8, salaryMin);
+        ps.setInt(9, salaryMin + 2 + random.nextInt(15));
+        ps.setString(10, CITIES[random.nextInt(CITIES.length)]);
+        ps.setString(11, pick(CHANNELS, CHANNEL_WEIGHTS, random));
+        ps.setString(12, random.nextInt(10) == 0 ? "学长" + random.nextInt(100) : null);
+        if (interviewing) {
+            // 标记为已提醒，后端启动时不会为生成的数据发送面试提醒
+            Timestamp interview = Timestamp.valueOf(created.plusDays(3 + random.nextInt(18)).withMinute(0));
+            ps.setTimestamp(13, interview);
+            ps.setTimestamp(14, interview);
+        } else {
+            ps.setNull(13, Types.TIMESTAMP);
+            ps.setNull(14, Types.TIMESTAMP);
+        }
+        ps.setString(15, random.nextInt(2) == 0 ? "https://careers.example.com/jobs/" + id : null);
+        ps.setString(16, random.nextInt(3) == 0 ? "HR 王女士" : null);
+        ps.setString(17, random.nextInt(3) == 0 ? "13800000000" : null);
+        ps.setString(18, pick(PRIORITIES, PRIORITY_WEIGHTS, random));
+        ps.setBoolean(19, random.nextInt(10) == 0);
+        ps.setTimestamp(20, Timestamp.valueOf(created));
+        ps.setTimestamp(21, Timestamp.valueOf(created.plusMinutes(random.nextInt(60 * 24 * 14))));
+    }
+
+    /**
+     * 按后端的规则生成统计计数和趋势汇总: 状态、渠道为空时记为空串，月汇总以当月 1 日为桶
+     */
+    private static void aggregate(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO application_counters (user_id, status, total, starred) "
+                    + "SELECT user_id, COALESCE(status, ''), COUNT(*), SUM(CASE WHEN is_starred THEN 1 ELSE 0 END) "
+                    + "FROM applications GROUP BY user_id, COALESCE(status, '')");
+            statement.executeUpdate("INSERT INTO application_rollups (user_id, granularity, bucket, status, channel, count) "
+                    + "SELECT user_id, 'DAY', apply_date, COALESCE(status, ''), COALESCE(apply_channel, ''), COUNT(*) "
+                    + "FROM applications GROUP BY user_id, apply_date, COALESCE(status, ''), COALESCE(apply_channel, '')");
+            statement.executeUpdate("INSERT INTO application_rollups (user_id, granularity, bucket, status, channel, count) "
+                    + "SELECT user_id, 'MONTH', bucket, status, channel, COUNT(*) FROM ("
+                    + "SELECT user_id, CAST(DATE_TRUNC('MONTH', apply_date) AS DATE) AS bucket, "
+                    + "COALESCE(status, '') AS status, COALESCE(apply_channel, '') AS channel FROM applications) m "
+                    + "GROUP BY user_id, bucket, status, channel");
+        }
+        connection.commit();
+    }
+
+    private static String pick(String[] values, int[] weights, SplittableRandom random) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int r = random.nextInt(total);
+        for (int i = 0; i < values.length; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static long count(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}